@@ -2,6 +2,7 @@ package it.unibo.smol;
 
 import java.io.UnsupportedEncodingException;
 
+import it.unibo.smol.common.TuningProfile;
 import javafx.application.Application;
 
 /**
@@ -18,6 +19,7 @@ public final class Smol {
      * @param args
      */
     public static void main(final String[] args) {
+        TuningProfile.load();
         Application.launch(SmolApplication.class, "");
     }
 }
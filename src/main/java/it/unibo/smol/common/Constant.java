@@ -26,32 +26,12 @@ public final class Constant {
     public static final double ENEMY_WIDTH = 70;
     /**enemy height. */
     public static final double ENEMY_HEIGHT = 70;
-    /**enemy health point. */
-    public static final int ENEMY_HP = 100;
-    /**enemy with helmet health point. */
-    public static final int ENEMY_HELMET_HP = 200;
     /**enemy damage to the lifeplants. */
     public static final int ENEMY_DMG = -1;
     /**The time the player stay freeze when the bomb explode. */
     public static final int BOMB_EXPLOSION = 2000;
     /**The amount of point for killing an enemy. */
     public static final int ENEMY_SCORE = 100;
-    /**The number of times a bomb enemy comes out of the ground before leaving.*/
-    public static final int BOMB_ENEMY_MAX_SPAWNS = 3;
-    /**The number of times a helmet enemy comes out of the ground before attacking the lifeplants.*/
-    public static final int HELMET_ENEMY_MAX_SPAWNS = 3;
-    /**The number of times a angry enemy comes out of the ground before attacking the lifeplants.*/
-    public static final int ANGRY_ENEMY_MAX_SPAWNS = 2;
-    /**The number of times a basic enemy comes out of the ground before attacking the lifeplants.*/
-    public static final int BASIC_ENEMY_MAX_SPAWNS = 3;
-    /**Speed of the Bomb enemy. */
-    public static final double BOMB_ENEMY_SPEED = 1;
-    /**Speed of the Helmet enemy. */
-    public static final double HELMET_ENEMY_SPEED = 1;
-    /**Speed of the Angry enemy. */
-    public static final double ANGRY_ENEMY_SPEED = 1.5;
-    /**Speed of the Basic enemy. */
-    public static final double BASIC_ENEMY_SPEED = 1;
     /**Min time a enemy stays up. */
     public static final int DEFAULT_MIN_TIME_UP = 1500;
     /**Max time a enemy stays up. */
@@ -94,18 +74,6 @@ public final class Constant {
     /**----------------------
      * ENEMY SPAWN RATE VALUE 
      * ----------------------*/
-    /** Default spawn rate for basic enemy. */
-    public static final double DEF_RATE_BASIC = 1.0;
-    /** Default spawn rate for helmet enemy.*/
-    public static final double DEF_RATE_HELMET = 0.45;
-    /** Default spawn rate for angry enemy.*/
-    public static final double DEF_RATE_ANGRY = 0.325;
-    /** Default spawn rate for bomb enemy.*/
-    public static final double DEF_RATE_BOMB = 0.2;
-    /** Increase spawn rate for angry enemy.*/
-    public static final double INC_RATE_ANGRY = 0.025;
-    /** Increase spawn rate for helmet enemy.*/
-    public static final double INC_RATE_HELMET = 0.05;
     /** Decrease time spawn.*/
     public static final int DEC_TIME_SPAWN = 200; 
     /** Default max time of spawn.*/
@@ -0,0 +1,245 @@
+package it.unibo.smol.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The values shared by all the moles of a kind: health, spawns, speed, sprites, behaviour and spawn rate.
+ * The kinds are read once from {@value #FILE}, one for each line, and each mole keeps a reference to its kind
+ * instead of its own copy of the values, so a new kind of mole is a new line of the file.
+ */
+public final class EnemyArchetype {
+
+    /** The resource the kinds of moles are read from. */
+    public static final String FILE = "/data/moles.csv";
+
+    private static final String COMMENT = "#";
+    private static final int COLUMNS = 9;
+    private static volatile Map<String, EnemyArchetype> archetypes;
+
+    /**
+     * What the moles of a kind do once they stayed up for the last time.
+     */
+    public enum Behaviour {
+        /**
+         * The mole goes back underground and walks to the next hole.
+         */
+        WALK,
+        /**
+         * The mole walks like a {@link #WALK} one, and at the last spawn it leaves and its hit freezes the player.
+         */
+        BOMB
+    }
+
+    private final String name;
+    private final int health;
+    private final int maxSpawns;
+    private final double speed;
+    private final String sprite;
+    private final Optional<String> hitSprite;
+    private final Behaviour behaviour;
+    private final double spawnRate;
+    private final double spawnRateIncrement;
+
+    private EnemyArchetype(final String name, final int health, final int maxSpawns, final double speed,
+        final String sprite, final Optional<String> hitSprite, final Behaviour behaviour, final double spawnRate,
+        final double spawnRateIncrement) {
+        this.name = name;
+        this.health = health;
+        this.maxSpawns = maxSpawns;
+        this.speed = speed;
+        this.sprite = sprite;
+        this.hitSprite = hitSprite;
+        this.behaviour = behaviour;
+        this.spawnRate = spawnRate;
+        this.spawnRateIncrement = spawnRateIncrement;
+    }
+
+    /**
+     * Getter for all the kinds of moles, in the order of the file.
+     * @return the kinds of moles
+     */
+    public static List<EnemyArchetype> all() {
+        return List.copyOf(archetypes().values());
+    }
+
+    /**
+     * Getter for a kind of mole.
+     * @param name the name of the kind in the file
+     * @return the kind of mole
+     */
+    public static EnemyArchetype get(final String name) {
+        final EnemyArchetype archetype = archetypes().get(name);
+        if (archetype == null) {
+            throw new IllegalArgumentException("There is no kind of mole named " + name);
+        }
+        return archetype;
+    }
+
+    private static Map<String, EnemyArchetype> archetypes() {
+        Map<String, EnemyArchetype> read = archetypes;
+        if (read == null) {
+            synchronized (EnemyArchetype.class) {
+                read = archetypes;
+                if (read == null) {
+                    try (InputStream in = EnemyArchetype.class.getResourceAsStream(FILE)) {
+                        if (in == null) {
+                            throw new IllegalStateException(FILE + " is missing");
+                        }
+                        read = read(new InputStreamReader(in, StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    archetypes = read;
+                }
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Read the kinds of moles, one for each line: name, health, max spawns, speed, sprite,
+     * sprite when hit (empty if none), behaviour, spawn rate and spawn rate added at each difficulty level.
+     * Empty lines and lines starting with {@value #COMMENT} are skipped.
+     * @param reader where the kinds are read from
+     * @return the kinds of moles by name, in the order they were read
+     * @throws IOException if the reader fails
+     */
+    public static Map<String, EnemyArchetype> read(final Reader reader) throws IOException {
+        final Map<String, EnemyArchetype> read = new LinkedHashMap<>();
+        final BufferedReader lines = new BufferedReader(reader);
+        int number = 0;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            number++;
+            if (line.isBlank() || line.startsWith(COMMENT)) {
+                continue;
+            }
+            final String[] values = line.split(",", -1);
+            if (values.length != COLUMNS) {
+                throw new IllegalArgumentException("Line " + number + " has " + values.length + " values instead of "
+                    + COLUMNS);
+            }
+            try {
+                final Iterator<String> columns = Arrays.stream(values).map(String::trim).iterator();
+                final var archetype = new EnemyArchetype(columns.next(),
+                    Integer.parseInt(columns.next()),
+                    Integer.parseInt(columns.next()),
+                    Double.parseDouble(columns.next()),
+                    columns.next(),
+                    Optional.of(columns.next()).filter(s -> !s.isEmpty()),
+                    Behaviour.valueOf(columns.next().toUpperCase(Locale.ROOT)),
+                    Double.parseDouble(columns.next()),
+                    Double.parseDouble(columns.next()));
+                if (read.put(archetype.getName(), archetype) != null) {
+                    throw new IllegalArgumentException("Line " + number + " repeats the kind " + archetype.getName());
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + number + " has a value that is not a number", e);
+            }
+        }
+        return Collections.unmodifiableMap(read);
+    }
+
+    /**
+     * Getter for the name of the kind.
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Getter for the health of the moles of the kind when they spawn.
+     * @return the max health
+     */
+    public int getHealth() {
+        return this.health;
+    }
+
+    /**
+     * Getter for the number of times the moles of the kind come out of the ground before leaving.
+     * @return the max spawns
+     */
+    public int getMaxSpawns() {
+        return this.maxSpawns;
+    }
+
+    /**
+     * Getter for the speed of the moles of the kind, before the {@link Tunable#ENEMY_SPEED_SCALE} is applied.
+     * @return the speed
+     */
+    public double getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Getter for the sprite of the moles of the kind when they are up.
+     * @return the name of the image
+     */
+    public String getSprite() {
+        return this.sprite;
+    }
+
+    /**
+     * Getter for the sprite of the moles of the kind when they are up and already hit.
+     * @return the name of the image, empty if the sprite doesn't change
+     */
+    public Optional<String> getHitSprite() {
+        return this.hitSprite;
+    }
+
+    /**
+     * Getter for the behaviour of the moles of the kind.
+     * @return the behaviour
+     */
+    public Behaviour getBehaviour() {
+        return this.behaviour;
+    }
+
+    /**
+     * Getter for the spawn rate of the kind at the start of the game: the kind of a new mole is the one with
+     * the smallest rate not below a random number between 0 and 1, so the rates only mean something together.
+     * @return the spawn rate
+     */
+    public double getSpawnRate() {
+        return this.spawnRate;
+    }
+
+    /**
+     * Getter for the spawn rate added to the kind at each difficulty level.
+     * @return the increment of the spawn rate
+     */
+    public double getSpawnRateIncrement() {
+        return this.spawnRateIncrement;
+    }
+
+    /**
+     * Getter for the spawn rate of the kind at a difficulty level.
+     * @param level the difficulty level, 0 at the start of the game
+     * @return the spawn rate
+     */
+    public double getSpawnRate(final int level) {
+        return this.spawnRate + level * this.spawnRateIncrement;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,138 @@
+package it.unibo.smol.common;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random stream of the game, with the SplitMix64 algorithm of {@link java.util.SplittableRandom}:
+ * a stream can split a further independent one, and the same seed gives the same numbers.
+ * Unlike {@link java.util.SplittableRandom} its state can be written and read back, so a snapshot
+ * of the game keeps the streams where they are without changing the game being played.
+ * The stream isn't thread safe.
+ */
+public final class GameRandom implements RandomGenerator {
+
+    /** Bytes written by {@link #writeState(ByteBuffer)}. */
+    public static final int BYTES = 2 * Long.BYTES;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX64_FIRST = 0xbf58476d1ce4e5b9L;
+    private static final long MIX64_SECOND = 0x94d049bb133111ebL;
+    private static final long MIX32_FIRST = 0x62a9d9ed799705f5L;
+    private static final long MIX32_SECOND = 0xcb24d0a5c88c35b3L;
+    private static final long GAMMA_FIRST = 0xff51afd7ed558ccdL;
+    private static final long GAMMA_SECOND = 0xc4ceb9fe1a85ec53L;
+    private static final long GAMMA_FLIP = 0xaaaaaaaaaaaaaaaaL;
+    private static final int MIN_GAMMA_TRANSITIONS = 24;
+    private static final int SHIFT_27 = 27;
+    private static final int SHIFT_28 = 28;
+    private static final int SHIFT_30 = 30;
+    private static final int SHIFT_31 = 31;
+    private static final int SHIFT_32 = 32;
+    private static final int SHIFT_33 = 33;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Constructor for a stream.
+     * @param seed the seed of the stream
+     */
+    public GameRandom(final long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(final long seed, final long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * Split a new independent stream from this one, drawing from this one.
+     * @return the new stream
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Start the stream again from a seed, as if it was just built.
+     * @param newSeed the seed
+     */
+    public void reseed(final long newSeed) {
+        this.seed = newSeed;
+        this.gamma = GOLDEN_GAMMA;
+    }
+
+    /**
+     * Bring the stream to the state of another one, so it draws the same numbers.
+     * @param other the other stream, not changed
+     */
+    public void copyFrom(final GameRandom other) {
+        this.seed = other.seed;
+        this.gamma = other.gamma;
+    }
+
+    /**
+     * Write the state of the stream, in {@link #BYTES} bytes.
+     * @param out where the state is written
+     */
+    public void writeState(final ByteBuffer out) {
+        out.putLong(this.seed).putLong(this.gamma);
+    }
+
+    /**
+     * Read a stream written by {@link #writeState(ByteBuffer)}.
+     * @param in where the state is read from
+     * @return a new stream in that state
+     * @throws IllegalArgumentException if the state can't be the one of a stream
+     */
+    public static GameRandom readState(final ByteBuffer in) {
+        final long seed = in.getLong();
+        final long gamma = in.getLong();
+        if ((gamma & 1) == 0) {
+            throw new IllegalArgumentException("The gamma of a random stream must be odd");
+        }
+        return new GameRandom(seed, gamma);
+    }
+
+    private long nextSeed() {
+        this.seed += this.gamma;
+        return this.seed;
+    }
+
+    private static long mix64(final long value) {
+        long z = (value ^ (value >>> SHIFT_30)) * MIX64_FIRST;
+        z = (z ^ (z >>> SHIFT_27)) * MIX64_SECOND;
+        return z ^ (z >>> SHIFT_31);
+    }
+
+    private static int mix32(final long value) {
+        final long z = (value ^ (value >>> SHIFT_33)) * MIX32_FIRST;
+        return (int) (((z ^ (z >>> SHIFT_28)) * MIX32_SECOND) >>> SHIFT_32);
+    }
+
+    private static long mixGamma(final long value) {
+        long z = (value ^ (value >>> SHIFT_33)) * GAMMA_FIRST;
+        z = (z ^ (z >>> SHIFT_33)) * GAMMA_SECOND;
+        z = (z ^ (z >>> SHIFT_33)) | 1L;
+        final int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < MIN_GAMMA_TRANSITIONS ? z ^ GAMMA_FLIP : z;
+    }
+}
@@ -5,7 +5,6 @@ package it.unibo.smol.common;
 
 import it.unibo.smol.common.hitbox.CircleHB;
 import it.unibo.smol.common.hitbox.RectangleHB;
-import javafx.geometry.Point2D;
 
 /**
  * interface for the hitboxes shapes.
@@ -16,13 +15,34 @@ public interface HitBox {
      * returns the center of the shape.
      * @return center
      */
-    Point2D getCenter();
+    Vector2D getCenter();
+
+    /**
+     * returns the x of the center of the shape, without building the center.
+     * @return the x of the center
+     */
+    double getCenterX();
+
+    /**
+     * returns the y of the center of the shape, without building the center.
+     * @return the y of the center
+     */
+    double getCenterY();
 
     /**
      * sets the center of the shape with the new parameter.
      * @param newCenter
      */
-    void setCenter(Point2D newCenter);
+    default void setCenter(final Vector2D newCenter) {
+        setCenter(newCenter.getX(), newCenter.getY());
+    }
+
+    /**
+     * sets the center of the shape, called at every tick for the entities that move.
+     * @param x the x of the new center
+     * @param y the y of the new center
+     */
+    void setCenter(double x, double y);
 
     /**
      * generic isColliding to make the others work.
@@ -0,0 +1,46 @@
+package it.unibo.smol.common;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * The size of the map of the game in logical units, the ones of the model.
+ * Only the view scales them to the pixels of the screen.
+ */
+public final class MapDimensions {
+    private static final int HEIGHT_PROPORTION = 8;
+    private static final int WIDTH_PROPORTION = 16;
+
+    /**
+     * Height of the whole map, with the borders.
+     */
+    public static final double HEIGHT = 900;
+
+    /**
+     * Width of the whole map, with the borders.
+     */
+    public static final double WIDTH = 1600;
+
+    /**
+     * Height of the border.
+     */
+    public static final double BORDER_HEIGHT = HEIGHT / HEIGHT_PROPORTION;
+
+    /**
+     * Width of the border.
+     */
+    public static final double BORDER_WIDTH = WIDTH / WIDTH_PROPORTION;
+
+    /**
+     * Height of the map.
+     */
+    public static final double MAP_HEIGHT = HEIGHT - BORDER_HEIGHT;
+
+    /**
+     * Width of the map.
+     */
+    public static final double MAP_WIDTH = WIDTH - BORDER_WIDTH;
+
+    private MapDimensions() throws UnsupportedEncodingException {
+        throw new UnsupportedEncodingException("This is a utility class");
+    }
+}
@@ -0,0 +1,145 @@
+package it.unibo.smol.common;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * The random numbers of a game, all coming from a single seed.
+ * Each subsystem of the game has a {@link GameRandom} stream of its own, so drawing numbers
+ * in a subsystem doesn't change the numbers of the others, and the objects of a subsystem can
+ * split a further independent stream from it. The same seed gives the same game.
+ * The streams of a subsystem are always the same objects, reseeding or restoring them changes their state,
+ * so the objects that keep a stream see the change.
+ * The streams aren't thread safe: they are used by the thread that writes the world.
+ */
+public class RandomStreams {
+
+    private static Logger logger = Logger.getLogger(RandomStreams.class.getName());
+
+    /**
+     * The subsystems that draw random numbers.
+     */
+    public enum Stream {
+        /**
+         * Positions of the life plants.
+         */
+        PLANTS,
+        /**
+         * Time, kind and position of the spawns.
+         */
+        SPAWNS,
+        /**
+         * Movements and up time of the enemies.
+         */
+        ENEMIES
+    }
+
+    private final Map<Stream, GameRandom> streams;
+    private long seed;
+
+    /**
+     * Constructor for the streams of a game.
+     * @param seed the seed of the game
+     */
+    public RandomStreams(final long seed) {
+        this.streams = new EnumMap<>(Stream.class);
+        for (final Stream stream : Stream.values()) {
+            this.streams.put(stream, new GameRandom(seed));
+        }
+        reseed(seed);
+    }
+
+    /**
+     * Constructor for the streams of a game seeded by the {@link Tunable#SEED} of the profile,
+     * or by the clock if the profile doesn't set it.
+     */
+    public RandomStreams() {
+        this(profileSeed());
+    }
+
+    /**
+     * The seed for a new game: the one of the {@link TuningProfile} if set, otherwise a new one from the clock.
+     * @return the seed
+     */
+    public static long profileSeed() {
+        final long seed = TuningProfile.getSeed();
+        return seed != 0 ? seed : System.nanoTime();
+    }
+
+    /**
+     * Restart every stream from a new seed.
+     * @param seed the seed of the game
+     */
+    public final void reseed(final long seed) {
+        this.seed = seed;
+        final var root = new GameRandom(seed);
+        for (final Stream stream : Stream.values()) {
+            this.streams.get(stream).copyFrom(root.split());
+        }
+        logger.fine(() -> "random seed " + seed);
+    }
+
+    /**
+     * Getter for the seed of the game.
+     * @return the seed, to play the same game again
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Getter for the stream of a subsystem.
+     * @param stream the subsystem
+     * @return the random stream
+     */
+    public GameRandom get(final Stream stream) {
+        return this.streams.get(stream);
+    }
+
+    /**
+     * Split a new independent stream from the one of a subsystem, e.g. for each enemy.
+     * @param stream the subsystem
+     * @return a new random stream
+     */
+    public GameRandom split(final Stream stream) {
+        return this.streams.get(stream).split();
+    }
+
+    /**
+     * Write the seed of the game and the state of every stream, without drawing from them.
+     * @param out where the state is written
+     */
+    public void writeState(final ByteBuffer out) {
+        out.putLong(this.seed);
+        for (final Stream stream : Stream.values()) {
+            this.streams.get(stream).writeState(out);
+        }
+    }
+
+    /**
+     * Read the state written by {@link #writeState(ByteBuffer)}, without changing any stream of a game.
+     * @param in where the state is read from
+     * @return new streams in that state, to be given to {@link #restore(RandomStreams)}
+     * @throws IllegalArgumentException if the state can't be the one of the streams
+     */
+    public static RandomStreams readState(final ByteBuffer in) {
+        final var read = new RandomStreams(in.getLong());
+        for (final Stream stream : Stream.values()) {
+            read.streams.get(stream).copyFrom(GameRandom.readState(in));
+        }
+        return read;
+    }
+
+    /**
+     * Bring every stream to the state of other streams, so the game draws the same numbers.
+     * @param other the other streams, not changed
+     */
+    public void restore(final RandomStreams other) {
+        this.seed = other.seed;
+        for (final Stream stream : Stream.values()) {
+            this.streams.get(stream).copyFrom(other.streams.get(stream));
+        }
+    }
+}
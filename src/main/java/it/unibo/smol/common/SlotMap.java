@@ -0,0 +1,151 @@
+package it.unibo.smol.common;
+
+import java.util.Arrays;
+
+/**
+ * Dense storage of values addressed by generational handles.
+ * The values are packed at the start of an array, so they are iterated by index without gaps,
+ * and each one is reached from its handle through a slot. Inserting and removing are O(1):
+ * a removed value is replaced by the last one, so the order of the values changes only when
+ * one is removed. Removing a value also bumps the generation of its slot, so the handles
+ * of the removed values are recognized as stale even after the slot is reused.
+ * The map isn't thread safe.
+ * @param <T> the type of the values
+ */
+public class SlotMap<T> {
+
+    /** A handle that never addresses a value. */
+    public static final long NO_HANDLE = 0;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_SLOT = -1;
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private Object[] values;
+    private int[] valueSlots;
+    /** The index of the value of each used slot, the next free slot for the free ones. */
+    private int[] slotIndexes;
+    private int[] generations;
+    private int size;
+    private int slots;
+    private int freeSlot;
+
+    /**
+     * Constructor for an empty SlotMap.
+     */
+    public SlotMap() {
+        this.values = new Object[INITIAL_CAPACITY];
+        this.valueSlots = new int[INITIAL_CAPACITY];
+        this.slotIndexes = new int[INITIAL_CAPACITY];
+        this.generations = new int[INITIAL_CAPACITY];
+        this.freeSlot = NO_SLOT;
+    }
+
+    /**
+     * Add a value at the end of the map.
+     * @param value the value to add
+     * @return the handle of the value
+     */
+    public long insert(final T value) {
+        final int slot;
+        if (freeSlot != NO_SLOT) {
+            slot = freeSlot;
+            freeSlot = slotIndexes[slot];
+        } else {
+            if (slots == generations.length) {
+                slotIndexes = Arrays.copyOf(slotIndexes, slots * 2);
+                generations = Arrays.copyOf(generations, slots * 2);
+            }
+            slot = slots++;
+            generations[slot] = 1;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            valueSlots = Arrays.copyOf(valueSlots, size * 2);
+        }
+        values[size] = value;
+        valueSlots[size] = slot;
+        slotIndexes[slot] = size;
+        size++;
+        return (long) generations[slot] << Integer.SIZE | slot;
+    }
+
+    /**
+     * Remove the value of a handle, the last value takes its place.
+     * @param handle the handle of the value
+     * @return {@code true} if the value was removed, {@code false} if the handle is stale
+     */
+    public boolean remove(final long handle) {
+        final int index = indexOf(handle);
+        if (index == NO_SLOT) {
+            return false;
+        }
+        final int slot = valueSlots[index];
+        final int last = size - 1;
+        values[index] = values[last];
+        valueSlots[index] = valueSlots[last];
+        slotIndexes[valueSlots[index]] = index;
+        values[last] = null;
+        size = last;
+        free(slot);
+        return true;
+    }
+
+    /**
+     * Remove every value, all the handles given so far become stale.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            free(valueSlots[i]);
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    private void free(final int slot) {
+        generations[slot] = generations[slot] == Integer.MAX_VALUE ? 1 : generations[slot] + 1;
+        slotIndexes[slot] = freeSlot;
+        freeSlot = slot;
+    }
+
+    /**
+     * The index of the value of a handle.
+     * @param handle the handle of the value
+     * @return the index between 0 and {@link #size()}, -1 if the handle is stale
+     */
+    public int indexOf(final long handle) {
+        final long slot = handle & INDEX_MASK;
+        if (slot >= slots || generations[(int) slot] != (int) (handle >>> Integer.SIZE)) {
+            return NO_SLOT;
+        }
+        return slotIndexes[(int) slot];
+    }
+
+    /**
+     * Getter for the value of a handle.
+     * @param handle the handle of the value
+     * @return the value, {@code null} if the handle is stale
+     */
+    public T get(final long handle) {
+        final int index = indexOf(handle);
+        return index == NO_SLOT ? null : valueAt(index);
+    }
+
+    /**
+     * Getter for a value by its position in the map.
+     * @param index the index between 0 and {@link #size()}
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public T valueAt(final int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * Getter for the number of values.
+     * @return the values in the map
+     */
+    public int size() {
+        return this.size;
+    }
+}
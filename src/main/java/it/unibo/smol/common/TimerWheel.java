@@ -0,0 +1,248 @@
+package it.unibo.smol.common;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hierarchical timer wheel that runs the delayed tasks of the game on game time.
+ * The wheel doesn't own a thread: the time moves forward only when {@link #advance(long)} is called,
+ * usually once per tick by the game loop, and the expired tasks run on that thread.
+ * Each of the {@value #LEVELS} levels has {@value #SLOTS} slots, a slot of the first level lasts
+ * one millisecond and a slot of every other level lasts as much as a whole turn of the level below,
+ * tasks are moved down a level when the wheel below completes a turn.
+ * Scheduling and cancelling a task are O(1). Tasks can be scheduled from any thread: the ones coming from
+ * a thread other than the one advancing the wheel are queued and added at the next {@link #advance(long)}.
+ */
+public class TimerWheel {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final Timeout[][] slots;
+    private final Queue<Timeout> incoming;
+    private volatile long time;
+    private volatile int epoch;
+    private volatile double timeScale;
+    private volatile boolean paused;
+    private volatile Thread owner;
+    private double remainder;
+
+    /**
+     * Constructor for an empty TimerWheel at time 0.
+     */
+    public TimerWheel() {
+        this.slots = new Timeout[LEVELS][SLOTS];
+        this.incoming = new ConcurrentLinkedQueue<>();
+        this.timeScale = 1;
+    }
+
+    /**
+     * Run a task once the given game time has passed.
+     * @param task the task to run
+     * @param delay the delay expressed in milliseconds of game time
+     * @return the handle to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay) {
+        final var timeout = new Timeout(task, time + Math.max(delay, 0), epoch);
+        if (Thread.currentThread() == owner) {
+            insert(timeout, time + 1);
+        } else {
+            incoming.add(timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * Move the wheel forward, running the tasks that expire.
+     * The elapsed time is multiplied by the time scale, nothing happens while the wheel is paused.
+     * @param elapsed the time passed since the last call, expressed in nanoseconds
+     */
+    public void advance(final long elapsed) {
+        owner = Thread.currentThread();
+        Timeout timeout = incoming.poll();
+        while (timeout != null) {
+            insert(timeout, time + 1);
+            timeout = incoming.poll();
+        }
+        if (paused) {
+            return;
+        }
+        remainder += elapsed * timeScale;
+        while (remainder >= NANOS_PER_MILLI) {
+            remainder -= NANOS_PER_MILLI;
+            step();
+        }
+    }
+
+    /**
+     * Drop every pending task. The tasks are discarded when their slot is reached.
+     */
+    public void cancelAll() {
+        incoming.clear();
+        epoch = epoch + 1;
+    }
+
+    /**
+     * Stop the time of the wheel, the pending tasks keep the time they still have to wait.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Restart the time of the wheel stopped by {@link #pause()}.
+     */
+    public void resume() {
+        paused = false;
+    }
+
+    /**
+     * Tells if the wheel is paused.
+     * @return {@code True} if the time of the wheel is stopped
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Set how fast the game time of the wheel runs compared to the time given to {@link #advance(long)}.
+     * @param timeScale 1 for the same speed, less than 1 to slow the timers down, more than 1 to speed them up
+     */
+    public void setTimeScale(final double timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("The time scale can't be negative");
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Getter for the game time of the wheel.
+     * @return the time expressed in milliseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Getter for the game time a task still has to wait, e.g. to schedule it again on another wheel.
+     * @param timeout the handle of the task
+     * @return the time left expressed in milliseconds, 0 if the task is due
+     */
+    public long getRemaining(final Timeout timeout) {
+        return Math.max(timeout.deadline - time, 0);
+    }
+
+    /**
+     * Move the time forward by one millisecond, moving down the tasks of the upper levels
+     * when the lower level completes a turn, then run the tasks of the current slot.
+     */
+    private void step() {
+        time = time + 1;
+        final long now = time;
+        for (int level = 1; level < LEVELS && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+            cascade(level, (int) (now >> (SLOT_BITS * level)) & MASK);
+        }
+        final int index = (int) now & MASK;
+        Timeout timeout = slots[0][index];
+        slots[0][index] = null;
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            timeout.next = null;
+            if (timeout.epoch != epoch || timeout.cancelled) {
+                timeout = next;
+                continue;
+            }
+            if (timeout.deadline <= now) {
+                timeout.expired = true;
+                timeout.task.run();
+            } else {
+                insert(timeout, now);
+            }
+            timeout = next;
+        }
+    }
+
+    private void cascade(final int level, final int index) {
+        Timeout timeout = slots[level][index];
+        slots[level][index] = null;
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            timeout.next = null;
+            if (timeout.epoch == epoch && !timeout.cancelled) {
+                insert(timeout, time);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Put a task in the slot of its deadline.
+     * @param timeout the task
+     * @param earliest the first time the task can run, a task scheduled now runs at the next millisecond
+     *     while a task moved down a level can still run in the current one
+     */
+    private void insert(final Timeout timeout, final long earliest) {
+        if (timeout.epoch != epoch || timeout.cancelled) {
+            return;
+        }
+        final long deadline = Math.max(timeout.deadline, earliest);
+        final long delta = deadline - time;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        final int index;
+        if (delta >= 1L << (SLOT_BITS * LEVELS)) {
+            // further than a whole turn of the wheel: wait in the last slot, it will be placed again
+            index = (int) ((time >> (SLOT_BITS * level)) - 1) & MASK;
+        } else {
+            index = (int) (deadline >> (SLOT_BITS * level)) & MASK;
+        }
+        timeout.next = slots[level][index];
+        slots[level][index] = timeout;
+    }
+
+    /**
+     * A task scheduled on the wheel.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private final int epoch;
+        private volatile boolean cancelled;
+        private volatile boolean expired;
+        private Timeout next;
+
+        private Timeout(final Runnable task, final long deadline, final int epoch) {
+            this.task = task;
+            this.deadline = deadline;
+            this.epoch = epoch;
+        }
+
+        /**
+         * Cancel the task, if it didn't run yet it won't run.
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Tells if the task was cancelled.
+         * @return {@code True} if {@link #cancel()} was called
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * Tells if the task already ran.
+         * @return {@code True} if the task ran
+         */
+        public boolean isExpired() {
+            return this.expired;
+        }
+    }
+}
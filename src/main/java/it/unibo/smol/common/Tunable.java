@@ -0,0 +1,119 @@
+package it.unibo.smol.common;
+
+import java.util.Locale;
+
+/**
+ * The values of the game that can be changed at runtime by a {@link TuningProfile}.
+ * The default of each value is the one used when the profile doesn't set it.
+ */
+public enum Tunable {
+    /**
+     * Frames drawn per second.
+     */
+    FPS(144, 1),
+    /**
+     * Ticks of the simulation per second.
+     */
+    UPS(200, 1),
+    /**
+     * Max number of ticks run in a row to catch up with the clock.
+     */
+    MAX_CATCH_UP_TICKS(5, 1),
+    /**
+     * 1 to time every tick and report the ones over {@link #TICK_BUDGET}, 0 to disable it.
+     */
+    WATCHDOG(0, 0),
+    /**
+     * Max time of a tick before the watchdog reports it, in microseconds.
+     */
+    TICK_BUDGET(5000, 1),
+    /**
+     * Speed of the game timers (spawns, enemies up time, weapon animations) compared to the simulation.
+     */
+    TIME_SCALE(1, 0),
+    /**
+     * 1 to move every entity first and find the collisions of a tick on all the cores,
+     * 0 to update the entities one after the other on the loop thread.
+     */
+    PARALLEL_UPDATE(0, 0),
+    /**
+     * 1 to keep the position, movement and hitbox of the entities in parallel arrays, 0 in the entities.
+     */
+    COLUMN_STORAGE(0, 0),
+    /**
+     * Seed of the random numbers of every game, to play the same game again. 0 for a new seed at each game.
+     */
+    SEED(0, 0),
+    /**
+     * Movement speed of the player.
+     */
+    PLAYER_SPEED(Constant.PLAYER_MOVSPD, 0),
+    /**
+     * Width of the hitbox and of the sprite of the enemies.
+     */
+    ENEMY_WIDTH(Constant.ENEMY_WIDTH, 1),
+    /**
+     * Height of the hitbox and of the sprite of the enemies.
+     */
+    ENEMY_HEIGHT(Constant.ENEMY_HEIGHT, 1),
+    /**
+     * Scale of the speed of all the kinds of enemies, each with its own speed in {@link EnemyArchetype#FILE}.
+     */
+    ENEMY_SPEED_SCALE(1, 0),
+    /**
+     * Min time an enemy stays up, in milliseconds.
+     */
+    MIN_TIME_UP(Constant.DEFAULT_MIN_TIME_UP, 0),
+    /**
+     * Max time an enemy stays up, in milliseconds.
+     */
+    MAX_TIME_UP(Constant.DEFAULT_MAX_TIME_UP, 0),
+    /**
+     * Min time between two spawns of enemies, in milliseconds.
+     */
+    MIN_TIME_SPAWN(Constant.DEF_MIN_TIME_SPAWN, 0),
+    /**
+     * Max time between two spawns of enemies, in milliseconds.
+     */
+    MAX_TIME_SPAWN(Constant.DEF_MAX_TIME_SPAWN, 0),
+    /**
+     * Decrease of the time between two spawns at each difficulty level, in milliseconds.
+     */
+    DEC_TIME_SPAWN(Constant.DEC_TIME_SPAWN, 0),
+    /**
+     * Score needed to increase the difficulty.
+     */
+    INC_DIFFICULTY_PIVOT(Constant.INC_DIFFICULTY_PIVOT, 1);
+
+    private final double defaultValue;
+    private final double min;
+
+    Tunable(final double defaultValue, final double min) {
+        this.defaultValue = defaultValue;
+        this.min = min;
+    }
+
+    /**
+     * Getter for the value used when the profile doesn't set it.
+     * @return the default value
+     */
+    public double getDefault() {
+        return this.defaultValue;
+    }
+
+    /**
+     * Getter for the smallest value accepted from a profile.
+     * @return the min value
+     */
+    public double getMin() {
+        return this.min;
+    }
+
+    /**
+     * The key of the value in a profile file, e.g. {@code max.catch.up.ticks}.
+     * @return the key
+     */
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
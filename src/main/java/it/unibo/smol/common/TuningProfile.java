@@ -0,0 +1,185 @@
+package it.unibo.smol.common;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Utility class that holds the current values of the {@link Tunable}s.
+ * The values are loaded from a profile file in the Smol folder of the user
+ * ({@code ~/Smol/<profile>.properties}) and can be reloaded while the game is running.
+ * Missing, malformed or out of range values fall back to their default, while a profile whose values
+ * don't fit together (e.g. a min spawn time over the max one) is rejected as a whole and the previous values are kept.
+ */
+public final class TuningProfile {
+
+    /** Name of the system property that selects the profile. */
+    public static final String PROFILE_PROPERTY = "smol.profile";
+    /** Name of the profile used when none is selected. */
+    public static final String DEFAULT_PROFILE = "default";
+
+    private static final String PATH = System.getProperty("user.home") + File.separator + "Smol";
+    private static final String EXTENSION = ".properties";
+
+    private static Logger logger = Logger.getLogger(TuningProfile.class.getName());
+    private static volatile Values current = new Values(Collections.unmodifiableMap(defaults()), 0);
+    private static File profileFile = new File(PATH, DEFAULT_PROFILE + EXTENSION);
+    private static long lastModified;
+
+    private TuningProfile() throws UnsupportedEncodingException {
+        throw new UnsupportedEncodingException("This is a utility class");
+    }
+
+    /**
+     * Getter for the current value of a tunable.
+     * @param tunable the value to read
+     * @return the value
+     */
+    public static double get(final Tunable tunable) {
+        return current.values.get(tunable);
+    }
+
+    /**
+     * Getter for the {@link Tunable#SEED}, read as a long so no digit of a big seed is lost.
+     * @return the seed, 0 if the profile doesn't set it
+     */
+    public static long getSeed() {
+        return current.seed;
+    }
+
+    /**
+     * Getter for the current value of a tunable, rounded to an integer.
+     * @param tunable the value to read
+     * @return the rounded value
+     */
+    public static int getInt(final Tunable tunable) {
+        return (int) Math.round(get(tunable));
+    }
+
+    /**
+     * Load the values of the profile selected by {@value #PROFILE_PROPERTY}, or of the {@value #DEFAULT_PROFILE} one.
+     */
+    public static void load() {
+        load(System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE));
+    }
+
+    /**
+     * Load the values of a profile, if its file doesn't exist the defaults are used.
+     * @param profile the name of the profile
+     */
+    public static synchronized void load(final String profile) {
+        profileFile = new File(PATH, profile + EXTENSION);
+        lastModified = profileFile.lastModified();
+        read(profileFile).ifPresent(read -> current = read);
+    }
+
+    /**
+     * Reload the profile if its file changed since it was last read.
+     * @return {@code True} if the values were reloaded
+     */
+    public static synchronized boolean reloadIfChanged() {
+        final long modified = profileFile.lastModified();
+        if (modified == lastModified) {
+            return false;
+        }
+        lastModified = modified;
+        final Optional<Values> read = read(profileFile);
+        if (read.isEmpty()) {
+            return false;
+        }
+        current = read.get();
+        logger.info(() -> "Reloaded tuning profile " + profileFile.getName());
+        return true;
+    }
+
+    private static Optional<Values> read(final File file) {
+        final Map<Tunable, Double> read = defaults();
+        long seed = 0;
+        if (!file.exists()) {
+            return Optional.of(new Values(Collections.unmodifiableMap(read), seed));
+        }
+        final Properties properties = new Properties();
+        try (var reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            logger.info("IOException reading " + file.getName());
+            return Optional.of(new Values(Collections.unmodifiableMap(read), seed));
+        }
+        for (final Tunable tunable : Tunable.values()) {
+            final String value = properties.getProperty(tunable.getKey());
+            if (value != null) {
+                try {
+                    // the seed is parsed as a long, a double would round the big ones
+                    final long whole = tunable == Tunable.SEED ? Long.parseLong(value.trim()) : 0;
+                    final double parsed = tunable == Tunable.SEED ? whole : Double.parseDouble(value.trim());
+                    if (parsed >= tunable.getMin()) {
+                        read.put(tunable, parsed);
+                        seed = tunable == Tunable.SEED ? whole : seed;
+                    } else {
+                        logger.info(() -> tunable.getKey() + " is below " + tunable.getMin() + ", using the default");
+                    }
+                } catch (NumberFormatException e) {
+                    logger.info(() -> tunable.getKey() + " is not a number, using the default");
+                }
+            }
+        }
+        final Optional<String> error = checkTogether(read);
+        if (error.isPresent()) {
+            logger.warning(() -> file.getName() + " is rejected, the previous values are kept: " + error.get());
+            return Optional.empty();
+        }
+        return Optional.of(new Values(Collections.unmodifiableMap(read), seed));
+    }
+
+    /**
+     * Check the values that are used together, each one being in its own range.
+     * @param read the values of a profile
+     * @return why the values don't fit together, empty if they do
+     */
+    private static Optional<String> checkTogether(final Map<Tunable, Double> read) {
+        final long minSpawn = Math.round(read.get(Tunable.MIN_TIME_SPAWN));
+        final long maxSpawn = Math.round(read.get(Tunable.MAX_TIME_SPAWN));
+        final long lastMinSpawn = minSpawn - Constant.DIFFICULTY_LIMIT * Math.round(read.get(Tunable.DEC_TIME_SPAWN));
+        if (minSpawn > maxSpawn) {
+            return Optional.of(Tunable.MIN_TIME_SPAWN.getKey() + " is over " + Tunable.MAX_TIME_SPAWN.getKey());
+        }
+        if (lastMinSpawn < 1) {
+            return Optional.of(Tunable.DEC_TIME_SPAWN.getKey() + " brings the time between two spawns to "
+                + lastMinSpawn + " at the last difficulty level");
+        }
+        if (Math.round(read.get(Tunable.MIN_TIME_UP)) > Math.round(read.get(Tunable.MAX_TIME_UP))) {
+            return Optional.of(Tunable.MIN_TIME_UP.getKey() + " is over " + Tunable.MAX_TIME_UP.getKey());
+        }
+        return Optional.empty();
+    }
+
+    private static Map<Tunable, Double> defaults() {
+        final Map<Tunable, Double> defaults = new EnumMap<>(Tunable.class);
+        for (final Tunable tunable : Tunable.values()) {
+            defaults.put(tunable, tunable.getDefault());
+        }
+        return defaults;
+    }
+
+    /**
+     * The values of a profile, replaced all together.
+     */
+    private static final class Values {
+        private final Map<Tunable, Double> values;
+        private final long seed;
+
+        Values(final Map<Tunable, Double> values, final long seed) {
+            this.values = values;
+            this.seed = seed;
+        }
+    }
+}
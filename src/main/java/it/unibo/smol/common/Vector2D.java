@@ -0,0 +1,104 @@
+package it.unibo.smol.common;
+
+import java.util.Objects;
+
+/**
+ * Immutable point or vector in the plane of the game, in the logical units of {@link MapDimensions}.
+ * The model uses it instead of the points of the UI toolkit, so the simulation runs without a screen.
+ * Where a position changes at every tick the model keeps its coordinates as primitive fields instead.
+ */
+public final class Vector2D {
+
+    private final double x;
+    private final double y;
+
+    /**
+     * Constructor for a point.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    public Vector2D(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Getter for the x coordinate.
+     * @return x
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Getter for the y coordinate.
+     * @return y
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Move the point.
+     * @param dx the movement along the x axis
+     * @param dy the movement along the y axis
+     * @return the moved point
+     */
+    public Vector2D add(final double dx, final double dy) {
+        return new Vector2D(this.x + dx, this.y + dy);
+    }
+
+    /**
+     * Distance from another point.
+     * @param other the other point
+     * @return the distance
+     */
+    public double distance(final Vector2D other) {
+        return distance(this.x, this.y, other.x, other.y);
+    }
+
+    /**
+     * Distance between two points given their coordinates, without building them.
+     * @param x the x of the first point
+     * @param y the y of the first point
+     * @param otherX the x of the second point
+     * @param otherY the y of the second point
+     * @return the distance
+     */
+    public static double distance(final double x, final double y, final double otherX, final double otherY) {
+        final double dx = x - otherX;
+        final double dy = y - otherY;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Vector2D)) {
+            return false;
+        }
+        final Vector2D other = (Vector2D) obj;
+        return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.x, this.y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Vector2D [x = " + this.x + ", y = " + this.y + "]";
+    }
+}
@@ -1,14 +1,15 @@
 package it.unibo.smol.common.hitbox;
 
 import it.unibo.smol.common.HitBox;
-import javafx.geometry.Point2D;
+import it.unibo.smol.common.Vector2D;
 
 /**
  * HitBox for the player's hammer and for the moles.
  */
 public class CircleHB implements HitBox {
 
-    private Point2D center;
+    private double centerX;
+    private double centerY;
     private final double radius;
 
     /**
@@ -16,8 +17,9 @@ public class CircleHB implements HitBox {
      * @param center
      * @param radius
      */
-    public CircleHB(final Point2D center, final double radius) {
-        this.center = center;
+    public CircleHB(final Vector2D center, final double radius) {
+        this.centerX = center.getX();
+        this.centerY = center.getY();
         this.radius = radius;
     }
 
@@ -34,17 +36,35 @@ public class CircleHB implements HitBox {
      * @return center
      */
     @Override
-    public Point2D getCenter() {
-        return this.center;
+    public Vector2D getCenter() {
+        return new Vector2D(this.centerX, this.centerY);
     }
 
     /**
-     * Sets the center of the circle with the new parameter.
-     * @param newCenter
+     * {@inheritDoc}
      */
     @Override
-    public void setCenter(final Point2D newCenter) {
-        this.center = newCenter;
+    public double getCenterX() {
+        return this.centerX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCenterY() {
+        return this.centerY;
+    }
+
+    /**
+     * Sets the center of the circle.
+     * @param x the x of the new center
+     * @param y the y of the new center
+     */
+    @Override
+    public void setCenter(final double x, final double y) {
+        this.centerX = x;
+        this.centerY = y;
     }
 
     /**
@@ -54,7 +74,8 @@ public class CircleHB implements HitBox {
      */
     @Override
     public boolean isColliding(final CircleHB circle) {
-        return this.center.distance(circle.getCenter()) <= this.radius + circle.getRadius();
+        return overlapsCircle(this.centerX, this.centerY, this.radius,
+            circle.getCenterX(), circle.getCenterY(), circle.getRadius());
     }
 
     /**
@@ -64,36 +85,56 @@ public class CircleHB implements HitBox {
      */
     @Override
     public boolean isColliding(final RectangleHB rectangle) {
-        return this.radius >= Math.sqrt(Math.pow(this.distanceX(rectangle), 2) + Math.pow(this.distanceY(rectangle), 2));
+        return overlapsRectangle(this.centerX, this.centerY, this.radius,
+            rectangle.getCenterX(), rectangle.getCenterY(), rectangle.getWidth(), rectangle.getHeight());
     }
 
     /**
-     * Helps with the calculates.
-     * @param rectangle
-     * @return distance in the x axis
+     * Checks if two circles collide, given their centers and radiuses.
+     * @param x the x of the center of the first circle
+     * @param y the y of the center of the first circle
+     * @param radius the radius of the first circle
+     * @param otherX the x of the center of the second circle
+     * @param otherY the y of the center of the second circle
+     * @param otherRadius the radius of the second circle
+     * @return if the circles collide
      */
-    private double distanceX(final RectangleHB rectangle) {
+    public static boolean overlapsCircle(final double x, final double y, final double radius,
+        final double otherX, final double otherY, final double otherRadius) {
+        final double distanceX = x - otherX;
+        final double distanceY = y - otherY;
+        return Math.sqrt(distanceX * distanceX + distanceY * distanceY) <= radius + otherRadius;
+    }
 
-        if (this.center.getX() < (rectangle.getEdge().getX() + rectangle.getWidth())) {
-            return this.center.getX() - Math.max(this.center.getX(), rectangle.getEdge().getX());
-        } else {
-            return this.center.getX() - Math.max(rectangle.getEdge().getX() + rectangle.getWidth(),
-                rectangle.getEdge().getX());
-        }
+    /**
+     * Checks if a circle collides with a rectangle, given their centers and sizes.
+     * @param x the x of the center of the circle
+     * @param y the y of the center of the circle
+     * @param radius the radius of the circle
+     * @param rectangleX the x of the center of the rectangle
+     * @param rectangleY the y of the center of the rectangle
+     * @param width the width of the rectangle
+     * @param height the height of the rectangle
+     * @return if the circle collides with the rectangle
+     */
+    public static boolean overlapsRectangle(final double x, final double y, final double radius,
+        final double rectangleX, final double rectangleY, final double width, final double height) {
+        return radius >= Math.sqrt(Math.pow(distance(x, rectangleX - width / 2, width), 2)
+            + Math.pow(distance(y, rectangleY - height / 2, height), 2));
     }
 
     /**
      * Helps with the calculates.
-     * @param rectangle
-     * @return distance in the y axis
+     * @param center the coordinate of the center of the circle
+     * @param edge the coordinate of the edge of the rectangle
+     * @param size the size of the rectangle along the same axis
+     * @return distance along the axis
      */
-    private double distanceY(final RectangleHB rectangle) {
-
-        if (this.center.getY() < (rectangle.getEdge().getY() + rectangle.getHeight())) {
-            return this.center.getY() - Math.max(this.center.getY(), rectangle.getEdge().getY());
+    private static double distance(final double center, final double edge, final double size) {
+        if (center < edge + size) {
+            return center - Math.max(center, edge);
         } else {
-            return this.center.getY() - Math.max(rectangle.getEdge().getY() + rectangle.getHeight(),
-                rectangle.getEdge().getY());
+            return center - Math.max(edge + size, edge);
         }
     }
 
@@ -112,6 +153,6 @@ public class CircleHB implements HitBox {
      */
     @Override
     public HitBox copyOf() {
-        return new CircleHB(this.center, this.radius);
+        return new CircleHB(getCenter(), this.radius);
     }
 }
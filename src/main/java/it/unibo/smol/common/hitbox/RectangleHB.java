@@ -1,7 +1,7 @@
 package it.unibo.smol.common.hitbox;
 
 import it.unibo.smol.common.HitBox;
-import javafx.geometry.Point2D;
+import it.unibo.smol.common.Vector2D;
 
 /**
  * HitBox for the player and for the camps.
@@ -10,7 +10,8 @@ public class RectangleHB implements HitBox {
 
     private final double width;
     private final double height;
-    private Point2D center;
+    private double centerX;
+    private double centerY;
 
 
     /**
@@ -19,10 +20,11 @@ public class RectangleHB implements HitBox {
      * @param height
      * @param center
      */
-    public RectangleHB(final double width, final double height, final Point2D center) {
+    public RectangleHB(final double width, final double height, final Vector2D center) {
         this.width = width;
         this.height = height;
-        this.center = center;
+        this.centerX = center.getX();
+        this.centerY = center.getY();
     }
 
     /**
@@ -45,8 +47,8 @@ public class RectangleHB implements HitBox {
      * Gets the edge of the rectangle.
      * @return the edge
      */
-    public Point2D getEdge() {
-        return new Point2D(this.center.getX() - (this.width / 2), this.center.getY() - (this.height / 2));
+    public Vector2D getEdge() {
+        return new Vector2D(this.centerX - (this.width / 2), this.centerY - (this.height / 2));
     }
 
     /**
@@ -54,16 +56,35 @@ public class RectangleHB implements HitBox {
      * @return center
      */
     @Override
-    public Point2D getCenter() {
-        return this.center;
+    public Vector2D getCenter() {
+        return new Vector2D(this.centerX, this.centerY);
     }
 
     /**
-     * Sets the center of the rectangle with the new parameter.
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCenterX() {
+        return this.centerX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCenterY() {
+        return this.centerY;
+    }
+
+    /**
+     * Sets the center of the rectangle.
+     * @param x the x of the new center
+     * @param y the y of the new center
      */
     @Override
-    public void setCenter(final Point2D newCenter) {
-        this.center = newCenter;
+    public void setCenter(final double x, final double y) {
+        this.centerX = x;
+        this.centerY = y;
     }
 
     /**
@@ -83,8 +104,25 @@ public class RectangleHB implements HitBox {
      */
     @Override
     public boolean isColliding(final RectangleHB rectangle) {
-        return Math.abs(this.center.getX() - rectangle.getCenter().getX()) <= (this.width + rectangle.getWidth()) / 2 
-            && Math.abs(this.center.getY() - rectangle.getCenter().getY()) <= (this.height + rectangle.getHeight()) / 2;
+        return overlaps(this.centerX, this.centerY, this.width, this.height,
+            rectangle.getCenterX(), rectangle.getCenterY(), rectangle.getWidth(), rectangle.getHeight());
+    }
+
+    /**
+     * Check if two rectangles collide, given their centers and sizes.
+     * @param x the x of the center of the first rectangle
+     * @param y the y of the center of the first rectangle
+     * @param width the width of the first rectangle
+     * @param height the height of the first rectangle
+     * @param otherX the x of the center of the second rectangle
+     * @param otherY the y of the center of the second rectangle
+     * @param otherWidth the width of the second rectangle
+     * @param otherHeight the height of the second rectangle
+     * @return {@code True} if the rectangles collide
+     */
+    public static boolean overlaps(final double x, final double y, final double width, final double height,
+        final double otherX, final double otherY, final double otherWidth, final double otherHeight) {
+        return Math.abs(x - otherX) <= (width + otherWidth) / 2 && Math.abs(y - otherY) <= (height + otherHeight) / 2;
     }
 
     /**
@@ -102,7 +140,7 @@ public class RectangleHB implements HitBox {
      */
     @Override
     public HitBox copyOf() {
-        return new RectangleHB(this.width, this.height, this.center);
+        return new RectangleHB(this.width, this.height, getCenter());
     }
 
 }
@@ -1,43 +1,45 @@
 package it.unibo.smol.controller.api;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
-import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.GameRandom;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.TimerWheel.Timeout;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
 import it.unibo.smol.common.HitBox;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.common.hitbox.RectangleHB;
 import it.unibo.smol.controller.input.EnemyMoves;
 import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.World;
-import it.unibo.smol.view.GameMap;
-import javafx.geometry.Point2D;
+import it.unibo.smol.model.impl.PlantReservations;
 
 /**
  * class that includes all the inputs for the different type of enemy and manages the enemies movement.
  */
 public class EnemyInput {
 
-    private static final Random RANDOM = new Random();
-
     private final int minTimeUp;
     private final int maxTimeUp;
+    private final double enemyWidth;
+    private final double enemyHeight;
     private int enemySection;
     private int enemyTimesSpawn;
     private final int maxTimesCanSpawn;
-    private Point2D enemyPosition;
-    private Point2D enemyNextPosition;
+    private Vector2D enemyPosition;
+    private Vector2D enemyNextPosition;
     private final EnemyMoves enemyMovement;
+    private GameRandom random;
     private final World world;
     private HitBox newPosHitBox;
     private boolean isNewPosViable;
     private Entity entity;
-    private final ScheduledExecutorService enemyStaysUpTime;
+    private Optional<Timeout> stayUp;
+    private Optional<Entity> claimedPlant;
 
     /**
      * inizialize the first position and and the first movements ogf the enemy.
@@ -47,20 +49,40 @@ public class EnemyInput {
      * @param movSpeed
      */
     public EnemyInput(final int maxTimesCanSpawn, final Optional<World> world,
-        final Point2D initialEnemyPosition, final double movSpeed) {
+        final Vector2D initialEnemyPosition, final double movSpeed) {
 
-        this.minTimeUp = Constant.DEFAULT_MIN_TIME_UP;
-        this.maxTimeUp = Constant.DEFAULT_MAX_TIME_UP;
+        this.minTimeUp = TuningProfile.getInt(Tunable.MIN_TIME_UP);
+        this.maxTimeUp = TuningProfile.getInt(Tunable.MAX_TIME_UP);
 
+        this.enemyWidth = TuningProfile.get(Tunable.ENEMY_WIDTH);
+        this.enemyHeight = TuningProfile.get(Tunable.ENEMY_HEIGHT);
         this.isNewPosViable = true;
-        this.enemyStaysUpTime = Executors.newSingleThreadScheduledExecutor();
         this.world = world.orElseThrow();
+        this.random = this.world.getRandom().split(RandomStreams.Stream.ENEMIES);
         this.maxTimesCanSpawn = maxTimesCanSpawn;
+        this.stayUp = Optional.empty();
+        this.claimedPlant = Optional.empty();
         this.enemyPosition = initialEnemyPosition;
-        this.enemyNextPosition = enemySetsPosition(RANDOM.nextInt(4)).orElseThrow();
+        this.enemyNextPosition = enemySetsPosition(random.nextInt(4)).orElseThrow();
         this.enemyMovement = new EnemyMoves(enemyPosition, enemyNextPosition, Optional.of(this), movSpeed);
     }
 
+    /**
+     * starts the enemy again from a new position, as if it was just built, when the enemy is reused.
+     * @param initialEnemyPosition
+     */
+    public void respawn(final Vector2D initialEnemyPosition) {
+        this.stayUp.ifPresent(Timeout::cancel);
+        this.stayUp = Optional.empty();
+        this.claimedPlant = Optional.empty();
+        this.isNewPosViable = true;
+        this.enemyTimesSpawn = 0;
+        this.random = this.world.getRandom().split(RandomStreams.Stream.ENEMIES);
+        this.enemyPosition = initialEnemyPosition;
+        this.enemyNextPosition = enemySetsPosition(random.nextInt(4)).orElseThrow();
+        this.enemyMovement.positionUpdate(enemyPosition, enemyNextPosition);
+    }
+
     /**
      * sets the entity to move.
      * @param entity
@@ -82,8 +104,8 @@ public class EnemyInput {
      * @return a random x position
      */
     private double enemyRandX() {
-        return GameMap.BORDER_WIDTH / 2  + Constant.ENEMY_WIDTH / 2
-            + RANDOM.nextDouble(GameMap.MAP_WIDTH / 2 - Constant.ENEMY_WIDTH); 
+        return MapDimensions.BORDER_WIDTH / 2  + enemyWidth / 2
+            + random.nextDouble(MapDimensions.MAP_WIDTH / 2 - enemyWidth); 
     }
 
     /**
@@ -91,8 +113,8 @@ public class EnemyInput {
      * @return a random y position
      */
     private double enemyRandY() {
-        return GameMap.BORDER_HEIGHT / 2 + Constant.ENEMY_HEIGHT / 2
-            + RANDOM.nextDouble(GameMap.MAP_HEIGHT / 2 - Constant.ENEMY_HEIGHT);
+        return MapDimensions.BORDER_HEIGHT / 2 + enemyHeight / 2
+            + random.nextDouble(MapDimensions.MAP_HEIGHT / 2 - enemyHeight);
     }
 
     /**
@@ -100,34 +122,34 @@ public class EnemyInput {
      * @param choosenSegment
      * @return the next enemy position
      */
-    private Optional<Point2D> enemySetsPosition(final int choosenSegment) {
+    private Optional<Vector2D> enemySetsPosition(final int choosenSegment) {
         this.enemySection = choosenSegment;
-        Optional<Point2D> temp;
+        Optional<Vector2D> temp;
         do {
             this.isNewPosViable = true;
             switch (choosenSegment) {
                 case 0:
-                    temp = Optional.of(new Point2D(enemyRandX(),
+                    temp = Optional.of(new Vector2D(enemyRandX(),
                         enemyRandY()));
                     break;
                 case 1:
-                    temp = Optional.of(new Point2D(enemyRandX() + (GameMap.MAP_WIDTH / 2),
+                    temp = Optional.of(new Vector2D(enemyRandX() + (MapDimensions.MAP_WIDTH / 2),
                         enemyRandY()));
                     break;
                 case 2:
-                    temp = Optional.of(new Point2D(enemyRandX(),
-                        enemyRandY() + (GameMap.MAP_HEIGHT / 2)));
+                    temp = Optional.of(new Vector2D(enemyRandX(),
+                        enemyRandY() + (MapDimensions.MAP_HEIGHT / 2)));
                     break;
                 case 3:
-                    temp = Optional.of(new Point2D(enemyRandX() + (GameMap.MAP_WIDTH / 2),
-                        enemyRandY() + (GameMap.MAP_HEIGHT / 2))); 
+                    temp = Optional.of(new Vector2D(enemyRandX() + (MapDimensions.MAP_WIDTH / 2),
+                        enemyRandY() + (MapDimensions.MAP_HEIGHT / 2))); 
                     break;
                 default:
                     temp = Optional.empty();
                     break;
             }
-            newPosHitBox = new RectangleHB(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT, temp.get());
-            this.world.getEntities().stream()
+            newPosHitBox = new RectangleHB(enemyWidth, enemyHeight, temp.get());
+            this.world.getEntitySnapshot()
                 .forEach(a -> {
                     if (newPosHitBox.isColliding(a.getPhysicsComp().orElseThrow().getHitBox().orElseThrow())) {
                         this.isNewPosViable = false;
@@ -141,7 +163,7 @@ public class EnemyInput {
      * sets the enemy position with the given param.
      * @param newPosition
      */
-    public void setEnemyPosition(final Point2D newPosition) {
+    public void setEnemyPosition(final Vector2D newPosition) {
         this.enemyPosition = newPosition;
     }
 
@@ -150,8 +172,8 @@ public class EnemyInput {
      */
     public void enemyIsUp() {
         if (enemyTimesSpawn < maxTimesCanSpawn) {
-            this.enemyStaysUpTime.schedule(enemyStaysUp(), minTimeUp + RANDOM.nextInt(maxTimeUp - minTimeUp),
-                TimeUnit.MILLISECONDS);
+            this.stayUp = Optional.of(this.world.getTimers()
+                .schedule(enemyStaysUp(), minTimeUp + random.nextInt(Math.max(1, maxTimeUp - minTimeUp))));
             enemyTimesSpawn++;
         }
     }
@@ -181,43 +203,82 @@ public class EnemyInput {
      * search the next section where an enemy can go and the sets tha actual position in that section.
      * @return the next position of the enemy
      */
-    protected Point2D enemySearchNextPos() {
+    protected Vector2D enemySearchNextPos() {
         int temp = enemySection;
         while (temp == enemySection) {
-            temp = RANDOM.nextInt(4);
+            temp = random.nextInt(4);
         }
         return enemySetsPosition(temp).get();
     }
 
     /**
-     * chooses a free plant for the enemy to go, if all plants are occupied
+     * chooses a free plant for the enemy to go and claims it, if all plants are occupied
      * it goes in a random plant where there's already a enemy.
      * @return the position of the plant in which the enemy will go
      */
-    private Point2D enemyGoesOnPlants() {
-        final Point2D temp;
-        final List<Entity> plants = new ArrayList<>(world.occupiedPlants().keySet().stream().toList());
-        Collections.shuffle(plants);
-        if (plants.stream().count() == world.occupiedPlants().values()
-            .stream()
-            .filter(a -> a.equals(true))
-            .count()) {
-            temp = plants
-                .stream()
-                .findAny()
-                .get()
-                .getCurrentPosition();
-        } else {
-            final Entity choosenPlant = plants
-                .stream()
-                .filter(a -> world.occupiedPlants().get(a).equals(false))
-                .findAny()
-                .get();
-            temp = choosenPlant.getCurrentPosition();
-            world.setPlantOccupied(choosenPlant);
+    private Vector2D enemyGoesOnPlants() {
+        final PlantReservations plants = world.getPlantReservations();
+        this.claimedPlant = plants.claimFree(random);
+        return this.claimedPlant.or(() -> plants.pickAny(random)).orElseThrow().getCurrentPosition();
+    }
+
+    /**
+     * gives back the plant claimed by the enemy and stops its timer, called when the enemy leaves the world.
+     */
+    public void leave() {
+        this.stayUp.ifPresent(Timeout::cancel);
+        this.stayUp = Optional.empty();
+        this.claimedPlant.ifPresent(world.getPlantReservations()::release);
+        this.claimedPlant = Optional.empty();
+    }
+
+    /**
+     * writes the state of the enemy in a snapshot of the world.
+     * @param out where the state is written
+     * @param plants the plants of the world, the claimed one is written as its index
+     */
+    public void writeState(final ByteBuffer out, final List<Entity> plants) {
+        out.putInt(enemySection).putInt(enemyTimesSpawn)
+            .putDouble(enemyPosition.getX()).putDouble(enemyPosition.getY())
+            .putDouble(enemyNextPosition.getX()).putDouble(enemyNextPosition.getY())
+            .putInt(claimedPlant.map(plants::indexOf).orElse(-1))
+            .putLong(stayUp.filter(t -> !t.isCancelled() && !t.isExpired())
+                .map(world.getTimers()::getRemaining).orElse(-1L));
+        random.writeState(out);
+        enemyMovement.writeState(out);
+    }
+
+    /**
+     * reads the state of the enemy written by {@link #writeState(ByteBuffer, List)}, without changing the enemy.
+     * @param in where the state is read from
+     * @return the state, to be given to {@link #restoreState(State, List)}
+     */
+    public static State readState(final ByteBuffer in) {
+        return new State(in.getInt(), in.getInt(),
+            new Vector2D(in.getDouble(), in.getDouble()), new Vector2D(in.getDouble(), in.getDouble()),
+            in.getInt(), in.getLong(), GameRandom.readState(in), EnemyMoves.readState(in));
+    }
 
+    /**
+     * brings the enemy back to a state read from a snapshot of the world, claiming its plant
+     * and scheduling again the time it has to stay up.
+     * @param state the state
+     * @param plants the plants of the world, in the order they had when the state was written
+     */
+    public void restoreState(final State state, final List<Entity> plants) {
+        leave();
+        this.enemySection = state.section;
+        this.enemyTimesSpawn = state.timesSpawn;
+        this.enemyPosition = state.position;
+        this.enemyNextPosition = state.nextPosition;
+        if (state.plant >= 0 && world.getPlantReservations().claim(plants.get(state.plant))) {
+            this.claimedPlant = Optional.of(plants.get(state.plant));
         }
-        return temp;
+        if (state.remaining >= 0) {
+            this.stayUp = Optional.of(this.world.getTimers().schedule(enemyStaysUp(), state.remaining));
+        }
+        this.random = state.random;
+        enemyMovement.restoreState(state.movement);
     }
 
     /**
@@ -244,11 +305,19 @@ public class EnemyInput {
         return this.enemyTimesSpawn;
     }
 
+    /**
+     * gets the number of times the enemy can spawn before leaving.
+     * @return maxTimesCanSpawn
+     */
+    protected int getMaxTimesCanSpawn() {
+        return this.maxTimesCanSpawn;
+    }
+
     /**
      * gets the enemy Position.
      * @return enemyPosition
      */
-    protected Point2D getEnemyPosition() {
+    protected Vector2D getEnemyPosition() {
         return this.enemyPosition;
     }
 
@@ -256,7 +325,7 @@ public class EnemyInput {
      * gets the next position to go, choosen by the enemy.
      * @return enemyNextPosition
      */
-    protected Point2D getEnemyNextPosition() {
+    protected Vector2D getEnemyNextPosition() {
         return this.enemyNextPosition;
     }
 
@@ -264,7 +333,7 @@ public class EnemyInput {
      * sets the next position for the enemy to go.
      * @param enemyNextPosition
      */
-    protected void setEnemyNextPosition(final Point2D enemyNextPosition) {
+    protected void setEnemyNextPosition(final Vector2D enemyNextPosition) {
         this.enemyNextPosition = enemyNextPosition;
     }
 
@@ -294,9 +363,9 @@ public class EnemyInput {
 
     /**
      * updates the position of the enemy.
-     * @return empty if the enemy is up and a Point2D if the enemy is underground
+     * @return empty if the enemy is up and a Vector2D if the enemy is underground
      */
-    public Optional<Point2D> enemyUpdatePos() {
+    public Optional<Vector2D> enemyUpdatePos() {
         return enemyMovement.enemyMove();
     }
 
@@ -315,4 +384,38 @@ public class EnemyInput {
     public void freezeMouseInputs(final int millisec) {
         this.getWorld().getMouseInputs().orElseThrow().freezeInputsFromBomb(millisec);
     }
+
+    /**
+     * The state of an enemy read from a snapshot of the world.
+     */
+    public static final class State {
+        private final int section;
+        private final int timesSpawn;
+        private final Vector2D position;
+        private final Vector2D nextPosition;
+        private final int plant;
+        private final long remaining;
+        private final GameRandom random;
+        private final EnemyMoves.State movement;
+
+        private State(final int section, final int timesSpawn, final Vector2D position, final Vector2D nextPosition,
+            final int plant, final long remaining, final GameRandom random, final EnemyMoves.State movement) {
+            this.section = section;
+            this.timesSpawn = timesSpawn;
+            this.position = position;
+            this.nextPosition = nextPosition;
+            this.plant = plant;
+            this.remaining = remaining;
+            this.random = random;
+            this.movement = movement;
+        }
+
+        /**
+         * Getter for the plant claimed by the enemy.
+         * @return the index of the plant in the plants of the world, -1 if the enemy didn't claim one
+         */
+        public int getPlant() {
+            return this.plant;
+        }
+    }
 }
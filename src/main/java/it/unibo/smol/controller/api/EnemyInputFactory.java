@@ -2,8 +2,9 @@ package it.unibo.smol.controller.api;
 
 import java.util.Optional;
 
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.model.api.World;
-import javafx.geometry.Point2D;
 
 /**
  * factory used to create the enemy inputs.
@@ -11,34 +12,11 @@ import javafx.geometry.Point2D;
 public interface EnemyInputFactory {
 
     /**
-     * creates an angry enemy input.
+     * creates the input of an enemy, that moves as its kind says.
+     * @param archetype the kind of the enemy
      * @param world
      * @param initialPosition
-     * @return enemy input of the angry enemey
+     * @return enemy input of the given kind of enemy
      */
-    EnemyInput createAngryEnemyInput(Optional<World> world, Point2D initialPosition);
-
-    /**
-     * creates a basic enemy input.
-     * @param world
-     * @param initialPosition
-     * @return enemy input of the basic enemey
-     */
-    EnemyInput createBasicEnemyInput(Optional<World> world, Point2D initialPosition);
-
-    /**
-     * creates an helmet enemy input.
-     * @param world
-     * @param initialPosition
-     * @return enemy input of the helmet enemey
-     */
-    EnemyInput createHelmetEnemyInput(Optional<World> world, Point2D initialPosition);
-
-    /**
-     * creates a bomb enemy input.
-     * @param world
-     * @param initialPosition
-     * @return enemy input of the bomb enemey
-     */
-    EnemyInput createBombEnemyInput(Optional<World> world, Point2D initialPosition);
+    EnemyInput createEnemyInput(EnemyArchetype archetype, Optional<World> world, Vector2D initialPosition);
 }
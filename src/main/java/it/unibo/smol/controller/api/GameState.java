@@ -1,10 +1,9 @@
 package it.unibo.smol.controller.api;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import it.unibo.smol.model.ScoreLocalStorage;
-import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.EntityFactory;
 import it.unibo.smol.model.api.World;
 
@@ -29,11 +28,6 @@ public interface GameState {
      */
     int getScore();
 
-    /**
-     * @return a map of plants occupied.
-     */
-    Map<Entity, Boolean> occupiedPlants();
-
     /**
      * Initialize the game.
      */
@@ -50,6 +44,39 @@ public interface GameState {
      */
     void stopEnemyCreation();
 
+    /**
+     * Take a snapshot of the game in progress, called by the thread that writes the world.
+     * @return the snapshot, see {@link it.unibo.smol.model.impl.WorldSnapshot}
+     */
+    ByteBuffer saveSnapshot();
+
+    /**
+     * Bring the game back to a snapshot taken by {@link #saveSnapshot()}, called by the thread that writes the world.
+     * @param snapshot the snapshot
+     */
+    void loadSnapshot(ByteBuffer snapshot);
+
+    /**
+     * Reset the game state in place so that {@link #initGame()} can start a new game,
+     * the world, the inputs and their threads are reused.
+     */
+    void reset();
+
+    /**
+     * Pause the game, freezing every game timer.
+     */
+    void pause();
+
+    /**
+     * Resume the game paused by {@link #pause()}.
+     */
+    void resume();
+
+    /**
+     * @return if the game is paused or not.
+     */
+    boolean isPaused();
+
     /**
      * Getter for record score.
      * @return the record
@@ -3,7 +3,7 @@ package it.unibo.smol.controller.api;
 import java.util.Optional;
 
 import it.unibo.smol.common.Directions;
-import javafx.geometry.Point2D;
+import it.unibo.smol.common.Vector2D;
 
 /**
  * Interface to manage inputs.
@@ -17,7 +17,7 @@ public interface InputComponent {
     /**
      * @return current position if the entity have a direction, otherwise it gets an Optional empty
      */
-    Optional<Point2D> getPosition();
+    Optional<Vector2D> getPosition();
 
     /**
      * @return true if the entity is hittable, false otherwise
@@ -3,9 +3,9 @@ package it.unibo.smol.controller.impl;
 import java.util.Optional;
 
 import it.unibo.smol.common.Directions;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.EnemyInput;
 import it.unibo.smol.controller.api.InputComponent;
-import javafx.geometry.Point2D;
 
 /**
  * Implementation of the InputComponent of any Enemies Entity.
@@ -34,7 +34,7 @@ public class EnemyInputComponent implements InputComponent {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Point2D> getPosition() {
+    public Optional<Vector2D> getPosition() {
         return input.enemyUpdatePos();
     }
 
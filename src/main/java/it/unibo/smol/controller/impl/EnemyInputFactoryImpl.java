@@ -2,15 +2,17 @@ package it.unibo.smol.controller.impl;
 
 import java.util.Optional;
 
-import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.EnemyInput;
 import it.unibo.smol.controller.api.EnemyInputFactory;
 import it.unibo.smol.controller.input.EnemyBombInput;
 import it.unibo.smol.model.api.World;
-import javafx.geometry.Point2D;
 
 /**
- * creates the enemy inputs giving some different constants for each type of enemy.
+ * creates the enemy inputs with the max spawns and the speed of the kind of the enemy.
  */
 public class EnemyInputFactoryImpl implements EnemyInputFactory {
 
@@ -18,31 +20,15 @@ public class EnemyInputFactoryImpl implements EnemyInputFactory {
      * {@inheritDoc}
      */
     @Override
-    public EnemyInput createAngryEnemyInput(final Optional<World> world, final Point2D initialPosition) {
-        return new EnemyInput(Constant.ANGRY_ENEMY_MAX_SPAWNS, world, initialPosition, Constant.ANGRY_ENEMY_SPEED);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public EnemyInput createBasicEnemyInput(final Optional<World> world, final Point2D initialPosition) {
-        return new EnemyInput(Constant.BASIC_ENEMY_MAX_SPAWNS, world, initialPosition, Constant.BASIC_ENEMY_SPEED);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public EnemyInput createHelmetEnemyInput(final Optional<World> world, final Point2D initialPosition) {
-        return new EnemyInput(Constant.BOMB_ENEMY_MAX_SPAWNS, world, initialPosition, Constant.HELMET_ENEMY_SPEED);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public EnemyInput createBombEnemyInput(final Optional<World> world, final Point2D initialPosition) {
-        return new EnemyBombInput(world, initialPosition);
+    public EnemyInput createEnemyInput(final EnemyArchetype archetype, final Optional<World> world,
+        final Vector2D initialPosition) {
+        final double speed = archetype.getSpeed() * TuningProfile.get(Tunable.ENEMY_SPEED_SCALE);
+        switch (archetype.getBehaviour()) {
+            case BOMB:
+                return new EnemyBombInput(archetype.getMaxSpawns(), world, initialPosition, speed);
+            case WALK:
+            default:
+                return new EnemyInput(archetype.getMaxSpawns(), world, initialPosition, speed);
+        }
     }
 }
@@ -1,22 +1,20 @@
 package it.unibo.smol.controller.impl;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.common.hitbox.RectangleHB;
 import it.unibo.smol.controller.api.GameState;
 import it.unibo.smol.model.ScoreLocalStorage;
-import it.unibo.smol.model.Type;
-import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.EntityFactory;
 import it.unibo.smol.model.api.World;
 import it.unibo.smol.model.impl.EnemyCreation;
 import it.unibo.smol.model.impl.EntityFactoryImpl;
 import it.unibo.smol.model.impl.PlantsCreation;
-import it.unibo.smol.model.impl.WorldImpl;
-import it.unibo.smol.view.GameMap;
-import javafx.geometry.Point2D;
+import it.unibo.smol.model.impl.WorldSnapshot;
 
 /**
  * The implementation of the GameState.
@@ -27,13 +25,14 @@ public class GameStateImpl implements GameState {
     private EnemyCreation enemyCreator;
     private final ScoreLocalStorage scoreStorage;
     private String folderName;
+    private volatile boolean paused;
 
     /**
-     * Constructor for GameState. 
+     * Constructor for GameState. The game is played in the given world, which keeps the handles of its entities.
      * @param world
      */
     public GameStateImpl(final World world) {
-        this.world = new WorldImpl(world);
+        this.world = world;
         this.entityFactory = new EntityFactoryImpl();
         this.enemyCreator = new EnemyCreation(Optional.of(this));
         this.scoreStorage = new ScoreLocalStorage(Optional.of(this));
@@ -64,9 +63,7 @@ public class GameStateImpl implements GameState {
      */
     @Override
     public boolean isGameOver() {
-        return !world.getEntities().stream()
-            .filter(x -> x.getType() == Type.HEALTH)
-            .findAny().isPresent();
+        return world.getPlantCount() == 0;
     }
 
     /**
@@ -77,34 +74,26 @@ public class GameStateImpl implements GameState {
         return this.world.getScore();
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Map<Entity, Boolean> occupiedPlants() {
-        return getWorld().orElseThrow().occupiedPlants();
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public void initGame() {
         //v OVEST WALL v
-        world.addEntity(entityFactory.createWall(new RectangleHB(GameMap.BORDER_WIDTH, GameMap.HEIGHT,
-            new Point2D(GameMap.BORDER_WIDTH / 2, GameMap.HEIGHT / 2)), this.world));
+        world.addEntity(entityFactory.createWall(new RectangleHB(MapDimensions.BORDER_WIDTH, MapDimensions.HEIGHT,
+            new Vector2D(MapDimensions.BORDER_WIDTH / 2, MapDimensions.HEIGHT / 2)), this.world));
         //v EAST WALL v
-        world.addEntity(entityFactory.createWall(new RectangleHB(GameMap.BORDER_WIDTH, GameMap.HEIGHT,
-            new Point2D(GameMap.MAP_WIDTH + GameMap.BORDER_WIDTH / 2, GameMap.HEIGHT / 2)), this.world));
+        world.addEntity(entityFactory.createWall(new RectangleHB(MapDimensions.BORDER_WIDTH, MapDimensions.HEIGHT,
+            new Vector2D(MapDimensions.MAP_WIDTH + MapDimensions.BORDER_WIDTH / 2, MapDimensions.HEIGHT / 2)), this.world));
         //v NORTH WALL v
-        world.addEntity(entityFactory.createWall(new RectangleHB(GameMap.WIDTH, GameMap.BORDER_HEIGHT,
-            new Point2D(GameMap.WIDTH / 2, GameMap.BORDER_HEIGHT / 2)), this.world));
+        world.addEntity(entityFactory.createWall(new RectangleHB(MapDimensions.WIDTH, MapDimensions.BORDER_HEIGHT,
+            new Vector2D(MapDimensions.WIDTH / 2, MapDimensions.BORDER_HEIGHT / 2)), this.world));
         //v SUD WALL v
-        world.addEntity(entityFactory.createWall(new RectangleHB(GameMap.WIDTH, GameMap.BORDER_HEIGHT,
-            new Point2D(GameMap.WIDTH / 2, GameMap.MAP_HEIGHT + GameMap.BORDER_HEIGHT / 2)), this.world));
+        world.addEntity(entityFactory.createWall(new RectangleHB(MapDimensions.WIDTH, MapDimensions.BORDER_HEIGHT,
+            new Vector2D(MapDimensions.WIDTH / 2, MapDimensions.MAP_HEIGHT + MapDimensions.BORDER_HEIGHT / 2)), this.world));
 
-        world.addEntity(entityFactory.createPlayer(GameMap.WIDTH / 2, GameMap.HEIGHT / 2, this.world));
-        world.addEntity(entityFactory.createWeapon(GameMap.WIDTH / 2, GameMap.HEIGHT / 2, this.world));
+        world.addEntity(entityFactory.createPlayer(MapDimensions.WIDTH / 2, MapDimensions.HEIGHT / 2, this.world));
+        world.addEntity(entityFactory.createWeapon(MapDimensions.WIDTH / 2, MapDimensions.HEIGHT / 2, this.world));
         new PlantsCreation(Optional.of(this));
         this.enemyCreator.startCreation();
     }
@@ -125,6 +114,62 @@ public class GameStateImpl implements GameState {
         this.enemyCreator.stopCreation();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer saveSnapshot() {
+        return WorldSnapshot.capture(this, this.enemyCreator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadSnapshot(final ByteBuffer snapshot) {
+        WorldSnapshot.restore(snapshot, this, this.enemyCreator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        if (this.enemyCreator != null) {
+            this.enemyCreator.stopCreation();
+        }
+        this.world.reset();
+        this.world.getMouseInputs().orElseThrow().reset();
+        this.enemyCreator = new EnemyCreation(Optional.of(this));
+        this.paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        this.paused = true;
+        this.world.getTimers().pause();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        this.world.getTimers().resume();
+        this.paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPaused() {
+        return this.paused;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -3,10 +3,10 @@ package it.unibo.smol.controller.impl;
 import java.util.Optional;
 
 import it.unibo.smol.common.Directions;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.EnemyInput;
 import it.unibo.smol.controller.api.InputComponent;
 import it.unibo.smol.controller.input.MouseInputs;
-import javafx.geometry.Point2D;
 
 /**
  * Implementation of the InputComponent of the weapon.
@@ -34,7 +34,7 @@ public class WeaponInputComponent implements InputComponent {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Point2D> getPosition() {
+    public Optional<Vector2D> getPosition() {
         mouse.setWeaponRange();
         return Optional.of(mouse.getWeaponLocation());
     }
@@ -2,11 +2,10 @@ package it.unibo.smol.controller.input;
 
 import java.util.Optional;
 
-import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.EnemyInput;
 
 import it.unibo.smol.model.api.World;
-import javafx.geometry.Point2D;
 
 /**
  * creates an enemy with a bomb.
@@ -15,11 +14,14 @@ public class EnemyBombInput extends EnemyInput {
 
     /**
      * gives the enemy Max times spawn and the given game state.
+     * @param maxTimesCanSpawn
      * @param world
      * @param initialEnemyPosition
+     * @param movSpeed
      */
-    public EnemyBombInput(final Optional<World> world, final Point2D initialEnemyPosition) {
-        super(Constant.BOMB_ENEMY_MAX_SPAWNS, world, initialEnemyPosition, Constant.BOMB_ENEMY_SPEED);
+    public EnemyBombInput(final int maxTimesCanSpawn, final Optional<World> world, final Vector2D initialEnemyPosition,
+        final double movSpeed) {
+        super(maxTimesCanSpawn, world, initialEnemyPosition, movSpeed);
     }
 
     /**
@@ -32,7 +34,7 @@ public class EnemyBombInput extends EnemyInput {
 
             @Override
             public void run() {
-                if (getEnemyTimesSpawn() < Constant.BOMB_ENEMY_MAX_SPAWNS) {
+                if (getEnemyTimesSpawn() < getMaxTimesCanSpawn()) {
                     setEnemyNextPosition(enemySearchNextPos());
                 } else {
                     getWorld().remove(getEntity().orElseThrow());
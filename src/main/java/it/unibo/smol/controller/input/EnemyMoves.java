@@ -1,8 +1,9 @@
 package it.unibo.smol.controller.input;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.EnemyInput;
-import javafx.geometry.Point2D;
 
 /**
  * Class that gets the position of the enemy to move and the position in which it has to move
@@ -10,8 +11,11 @@ import javafx.geometry.Point2D;
  */
 public class EnemyMoves {
 
-    private Point2D from;
-    private Point2D to;
+    /** The positions are kept as coordinates, since the enemy moves at every tick. */
+    private double fromX;
+    private double fromY;
+    private double toX;
+    private double toY;
     private double moveX;
     private double moveY;
     private final double movSpeed;
@@ -25,10 +29,9 @@ public class EnemyMoves {
      * @param enemyToMove
      * @param movSpeed
      */
-    public EnemyMoves(final Point2D from, final Point2D to, final Optional<EnemyInput> enemyToMove, final double movSpeed) {
-        this.from = from;
-        this.to = to;
+    public EnemyMoves(final Vector2D from, final Vector2D to, final Optional<EnemyInput> enemyToMove, final double movSpeed) {
         this.movSpeed = movSpeed;
+        setPositions(from, to);
         this.enemyToMove = enemyToMove.orElseThrow();
         setMovementVariable();
         this.enemyIsUnder = true;
@@ -39,19 +42,22 @@ public class EnemyMoves {
      * to the next position.
      * @return an empty if the enemy is not underground and the progressive enemy position if it is
      */
-    public Optional<Point2D> enemyMove() {
+    public Optional<Vector2D> enemyMove() {
         if (this.enemyIsUnder) {
-            if (this.from.distance(this.to) > movSpeed) {
-                this.from = this.from.add(this.from.getX() < this.to.getX() ? this.moveX * movSpeed : -this.moveX * movSpeed, 0);
-                this.from = this.from.add(0, this.from.getY() < this.to.getY() ? this.moveY * movSpeed : -this.moveY * movSpeed);
+            final Vector2D from;
+            if (Vector2D.distance(fromX, fromY, toX, toY) > movSpeed) {
+                this.fromX += this.fromX < this.toX ? this.moveX * movSpeed : -this.moveX * movSpeed;
+                this.fromY += this.fromY < this.toY ? this.moveY * movSpeed : -this.moveY * movSpeed;
+                from = new Vector2D(fromX, fromY);
                 enemyToMove.setEnemyPosition(from);
             } else {
+                from = new Vector2D(fromX, fromY);
                 notifyEnemyHasArrived();
             }
+            return Optional.of(from);
         } else {
             return Optional.empty();
         }
-        return Optional.of(from);
     }
 
     /**
@@ -66,8 +72,8 @@ public class EnemyMoves {
      * sets the movement variable that the enemy uses to move.
      */
     private void setMovementVariable() {
-        this.moveX = getMovementSegments(Math.abs(from.getX() - to.getX()));
-        this.moveY = getMovementSegments(Math.abs(from.getY() - to.getY()));
+        this.moveX = getMovementSegments(Math.abs(fromX - toX));
+        this.moveY = getMovementSegments(Math.abs(fromY - toY));
     }
 
     /**
@@ -76,7 +82,7 @@ public class EnemyMoves {
      * @return a double used by the enemy to move in the axis
      */
     private double getMovementSegments(final double temp) {
-        return temp / Math.max(Math.abs(from.getX() - to.getX()), Math.abs(from.getY() - to.getY()));
+        return temp / Math.max(Math.abs(fromX - toX), Math.abs(fromY - toY));
     }
 
     /**
@@ -84,13 +90,54 @@ public class EnemyMoves {
      * @param from
      * @param to
      */
-    public void positionUpdate(final Point2D from, final Point2D to) {
-        this.from = from;
-        this.to = to;
+    public void positionUpdate(final Vector2D from, final Vector2D to) {
+        setPositions(from, to);
         setMovementVariable();
         this.enemyIsUnder = true;
     }
 
+    /**
+     * writes the state of the movement in a snapshot of the world.
+     * @param out where the state is written
+     */
+    public void writeState(final ByteBuffer out) {
+        out.putDouble(fromX).putDouble(fromY)
+            .putDouble(toX).putDouble(toY)
+            .putDouble(moveX).putDouble(moveY)
+            .put((byte) (enemyIsUnder ? 1 : 0));
+    }
+
+    /**
+     * reads the state of the movement written by {@link #writeState(ByteBuffer)}, without changing the movement.
+     * @param in where the state is read from
+     * @return the state, to be given to {@link #restoreState(State)}
+     */
+    public static State readState(final ByteBuffer in) {
+        return new State(in.getDouble(), in.getDouble(), in.getDouble(), in.getDouble(),
+            in.getDouble(), in.getDouble(), in.get() != 0);
+    }
+
+    /**
+     * brings the movement back to a state read from a snapshot of the world.
+     * @param state the state
+     */
+    public void restoreState(final State state) {
+        this.fromX = state.fromX;
+        this.fromY = state.fromY;
+        this.toX = state.toX;
+        this.toY = state.toY;
+        this.moveX = state.moveX;
+        this.moveY = state.moveY;
+        this.enemyIsUnder = state.under;
+    }
+
+    private void setPositions(final Vector2D from, final Vector2D to) {
+        this.fromX = from.getX();
+        this.fromY = from.getY();
+        this.toX = to.getX();
+        this.toY = to.getY();
+    }
+
     /**
      * tells if the enemy is underground.
      * @return if the enemy is underground
@@ -98,4 +145,28 @@ public class EnemyMoves {
     public boolean isEnemyUnderground() {
         return enemyIsUnder;
     }
+
+    /**
+     * The state of a movement read from a snapshot of the world.
+     */
+    public static final class State {
+        private final double fromX;
+        private final double fromY;
+        private final double toX;
+        private final double toY;
+        private final double moveX;
+        private final double moveY;
+        private final boolean under;
+
+        private State(final double fromX, final double fromY, final double toX, final double toY,
+            final double moveX, final double moveY, final boolean under) {
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.toX = toX;
+            this.toY = toY;
+            this.moveX = moveX;
+            this.moveY = moveY;
+            this.under = under;
+        }
+    }
 }
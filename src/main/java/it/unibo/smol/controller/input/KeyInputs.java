@@ -102,4 +102,13 @@ public class KeyInputs implements EventHandler<KeyEvent> {
     public void setPlayerStunned(final boolean playerStunned) {
         this.playerStunned = playerStunned;
     }
+
+    /**
+     * drops the pending movements and gives back the inputs to the player, used when a new game starts.
+     */
+    public void reset() {
+        this.movement.clear();
+        this.playerFreeze = false;
+        this.playerStunned = false;
+    }
 }
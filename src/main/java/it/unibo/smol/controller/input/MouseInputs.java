@@ -1,15 +1,12 @@
 package it.unibo.smol.controller.input;
 
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
 import it.unibo.smol.common.Constant;
 import it.unibo.smol.common.Directions;
-import it.unibo.smol.view.GameMap;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.common.TimerWheel;
+import it.unibo.smol.common.Vector2D;
 import javafx.event.EventHandler;
-import javafx.geometry.Point2D;
 import javafx.scene.input.MouseEvent;
 
 /**
@@ -17,7 +14,7 @@ import javafx.scene.input.MouseEvent;
  */
 public class MouseInputs implements EventHandler<MouseEvent> {
 
-    private final ScheduledExecutorService animationTime;
+    private final TimerWheel animationTime;
     private final KeyInputs keyInputs;
     private boolean playerFreeze;
     private boolean playerStunned;
@@ -27,13 +24,25 @@ public class MouseInputs implements EventHandler<MouseEvent> {
     private boolean weaponHits;
     private double weaponIncrease;
     private double weaponRange;
-    private Point2D weaponLocation;
+    /** Where the weapon is aimed, in the logical units of the map. */
+    private Vector2D weaponLocation;
+    private double screenScaleX;
+    private double screenScaleY;
 
     /**
-     * constructor that sets the default values.
+     * constructor that sets the default values, the animations run on a timer wheel of their own.
      * @param keyInputs
      */
     public MouseInputs(final Optional<KeyInputs> keyInputs) {
+        this(keyInputs, new TimerWheel());
+    }
+
+    /**
+     * constructor that sets the default values.
+     * @param keyInputs
+     * @param animationTime the timer wheel of the game, that runs the animations of the weapon
+     */
+    public MouseInputs(final Optional<KeyInputs> keyInputs, final TimerWheel animationTime) {
         this.weaponSmashed = false;
         this.weaponHits = false;
         this.weaponIsSmashing = false;
@@ -42,8 +51,10 @@ public class MouseInputs implements EventHandler<MouseEvent> {
         this.playerFreeze = false;
         this.weaponRange = 0;
         this.weaponIncrease = 0;
-        this.animationTime = Executors.newSingleThreadScheduledExecutor();
-        this.weaponLocation = new Point2D(GameMap.WIDTH / 2, GameMap.HEIGHT / 2);
+        this.animationTime = animationTime;
+        this.screenScaleX = 1;
+        this.screenScaleY = 1;
+        this.weaponLocation = new Vector2D(MapDimensions.WIDTH / 2, MapDimensions.HEIGHT / 2);
         this.keyInputs = keyInputs.orElseThrow();
         this.keyInputs.setPlayerFreezed(playerFreeze);
         this.keyInputs.setPlayerStunned(playerStunned);
@@ -59,7 +70,7 @@ public class MouseInputs implements EventHandler<MouseEvent> {
             && !this.playerFreeze && !this.playerStunned) {
 
             this.weaponIsSmashing = true;
-            this.animationTime.schedule(weaponExpands(), Constant.HOLD_TIME, TimeUnit.MILLISECONDS);
+            this.animationTime.schedule(weaponExpands(), Constant.HOLD_TIME);
 
         } else if (event.getEventType().equals(MouseEvent.MOUSE_RELEASED) 
             && !this.weaponSmashed && this.weaponIsSmashing
@@ -68,13 +79,13 @@ public class MouseInputs implements EventHandler<MouseEvent> {
             this.weaponSmashed = true;
             this.weaponHits = true;
             this.weaponIncrease = 0;
-            this.weaponLocation = new Point2D(event.getX(), event.getY());
+            this.weaponLocation = toMap(event);
             freezeInputs(Constant.WEAPON_ATTACK_ANIM);
 
         } else if (event.getEventType().equals(MouseEvent.MOUSE_MOVED) 
             && !this.weaponSmashed && this.cursorOnScreen
             && !this.playerFreeze && !this.playerStunned) {
-            this.weaponLocation = new Point2D(event.getX(), event.getY());
+            this.weaponLocation = toMap(event);
 
         } else if (event.getEventType().equals(MouseEvent.MOUSE_ENTERED)) {
 
@@ -83,7 +94,7 @@ public class MouseInputs implements EventHandler<MouseEvent> {
         } else if (event.getEventType().equals(MouseEvent.MOUSE_DRAGGED) 
             && !this.weaponSmashed && this.cursorOnScreen
             && !this.playerFreeze && !this.playerStunned) {
-            this.weaponLocation = new Point2D(event.getX(), event.getY());
+            this.weaponLocation = toMap(event);
         }
     }
 
@@ -93,7 +104,7 @@ public class MouseInputs implements EventHandler<MouseEvent> {
      */
     public void freezeInputs(final int freezeTime) {
         playerBlock();
-        animationTime.schedule(releaseInput(), freezeTime, TimeUnit.MILLISECONDS);
+        animationTime.schedule(releaseInput(), freezeTime);
     }
 
     /**
@@ -102,7 +113,23 @@ public class MouseInputs implements EventHandler<MouseEvent> {
      */
     public void freezeInputsFromBomb(final int freezeTime) {
         playerGetStunned();
-        animationTime.schedule(releaseStun(), freezeTime, TimeUnit.MILLISECONDS);
+        animationTime.schedule(releaseStun(), freezeTime);
+    }
+
+    /**
+     * sets back the default values, used when a new game starts.
+     * The pending animations are dropped with the other timers of the game.
+     */
+    public void reset() {
+        this.weaponSmashed = false;
+        this.weaponHits = false;
+        this.weaponIsSmashing = false;
+        this.playerStunned = false;
+        this.playerFreeze = false;
+        this.weaponRange = 0;
+        this.weaponIncrease = 0;
+        this.weaponLocation = new Vector2D(MapDimensions.WIDTH / 2, MapDimensions.HEIGHT / 2);
+        this.keyInputs.reset();
     }
 
     /**
@@ -213,11 +240,25 @@ public class MouseInputs implements EventHandler<MouseEvent> {
     }
 
     /**
-     * returns the weapon location on the screen.
+     * sets the scale from the map to the screen, so the position of the mouse is taken back to the map.
+     * @param scaleX the pixels of the screen for each unit of the map along the x axis
+     * @param scaleY the pixels of the screen for each unit of the map along the y axis
+     */
+    public void setScreenScale(final double scaleX, final double scaleY) {
+        this.screenScaleX = scaleX;
+        this.screenScaleY = scaleY;
+    }
+
+    private Vector2D toMap(final MouseEvent event) {
+        return new Vector2D(event.getX() / screenScaleX, event.getY() / screenScaleY);
+    }
+
+    /**
+     * returns the weapon location on the map.
      * @return weaponLocation
      */
-    public Point2D getWeaponLocation() {
-        return new Point2D(weaponLocation.getX() / GameMap.SCREEN_PROP_X, weaponLocation.getY() / GameMap.SCREEN_PROP_Y);
+    public Vector2D getWeaponLocation() {
+        return this.weaponLocation;
     }
 
     /**
@@ -13,6 +13,18 @@ public interface GameEngine {
      */
     void init(Stage primaryStage);
 
+    /**
+     * This method start a new game reusing the state, the view and the inputs of the last one.
+     * If no game was started yet it behaves like {@link #init(Stage)}.
+     * @param primaryStage : The stage of the Current view
+     */
+    void restart(Stage primaryStage);
+
+    /**
+     * This method stops the current game, shutting down every thread and timer it started.
+     */
+    void stop();
+
     /**
      * This method set current skin folder.
      * @param skinFolder selected skin folder
@@ -3,6 +3,7 @@ package it.unibo.smol.core;
 import java.util.Optional;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.TimerWheel;
 import it.unibo.smol.controller.impl.GameStateImpl;
 import it.unibo.smol.controller.input.KeyInputs;
 import it.unibo.smol.controller.input.MouseInputs;
@@ -16,6 +17,9 @@ import javafx.stage.Stage;
  */
 public class GameEngineImpl implements GameEngine {
     private String skin;
+    private GameStateImpl gameState;
+    private GameViewState gameView;
+    private GameSession session;
 
     /**
      * Constructor of Game Engine that sets default folder skin.
@@ -30,15 +34,65 @@ public class GameEngineImpl implements GameEngine {
     @Override
     public void init(final Stage primaryStage) {
         final KeyInputs keyEventHandler = new KeyInputs();
-        final MouseInputs mouseEventHandler = new MouseInputs(Optional.of(keyEventHandler));
-        final var world = new WorldImpl();
+        closeSession();
+        final TimerWheel timers = new TimerWheel();
+        final MouseInputs mouseEventHandler = new MouseInputs(Optional.of(keyEventHandler), timers);
+        final var world = new WorldImpl(timers);
         world.setInputs(Optional.of(keyEventHandler), Optional.of(mouseEventHandler));
         final var gs = new GameStateImpl(world);
         gs.setSkins(skin);
         final var gv = new GameViewState(Optional.of(gs), Optional.of(keyEventHandler), Optional.of(mouseEventHandler));
-        final GameLoop gameLoop = new GameLoop(Optional.of(gs), Optional.of(gv), Optional.of(primaryStage));
+        this.gameState = gs;
+        this.gameView = gv;
         new WindowImpl(gv).launch(primaryStage);
-        gameLoop.start();
+        startSession(primaryStage, timers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restart(final Stage primaryStage) {
+        if (this.gameState == null) {
+            init(primaryStage);
+            return;
+        }
+        final long request = System.nanoTime();
+        closeSession();
+        gameState.reset();
+        gameView.restart(primaryStage, request);
+        startSession(primaryStage, gameState.getWorld().orElseThrow().getTimers());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        closeSession();
+    }
+
+    /**
+     * Open a new session for the current game and start its loop.
+     * @param primaryStage the stage of the game
+     * @param timers the timers of the game
+     */
+    private void startSession(final Stage primaryStage, final TimerWheel timers) {
+        final var gs = this.gameState;
+        this.session = new GameSession(timers);
+        this.session.onClose(gs::stopEnemyCreation);
+        this.session.start(new GameLoop(Optional.of(gs), Optional.of(this.gameView), Optional.of(primaryStage),
+            SchedulerMode.PARK, Optional.of(this), this.session));
+    }
+
+    /**
+     * Shut down the session of the last game, if any.
+     */
+    private void closeSession() {
+        if (this.session != null) {
+            this.session.close();
+            this.session = null;
+        }
     }
 
     /**
@@ -1,7 +1,12 @@
 package it.unibo.smol.core;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
 
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
 import it.unibo.smol.controller.api.GameState;
 import it.unibo.smol.view.impl.GameOverWinState;
 import it.unibo.smol.view.impl.GameViewState;
@@ -13,33 +18,106 @@ import javafx.stage.Stage;
  */
 public class GameLoop extends Thread {
 
-    private static final int FPS = 144;
-    private static final double FPS_INTERVAL = 1_000_000_000 / FPS;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
 
-    private static final int UPS = 200;
-    private static final double UPS_INTERVAL = 1_000_000_000 / UPS;
+    /** Time before a deadline in which the loop stops parking and starts spinning, in nanoseconds. */
+    private static final long SPIN_WINDOW = 250_000;
+    /** Time between two reports of the loop statistics, in nanoseconds. */
+    private static final long REPORT_INTERVAL = 10_000_000_000L;
+    /** Time between two checks of the tuning profile file, in nanoseconds. */
+    private static final long RELOAD_CHECK_INTERVAL = 1_000_000_000;
+    /** Time between two checks of the pause state while the game is paused, in nanoseconds. */
+    private static final long PAUSE_POLL_INTERVAL = 100_000_000;
+
+    private static Logger logger = Logger.getLogger(GameLoop.class.getName());
 
     private long pastTime;
     private double delta;
 
     private final GameState gameState;
-    private final GameViewState gv;
-    private final Stage view;
+    private final Optional<GameViewState> gv;
+    private final Optional<Stage> view;
+    private final SchedulerMode mode;
+    private final LoopStatistics statistics;
+    private final Optional<GameEngine> engine;
+    private final GameSession session;
+    private int maxCatchUpTicks;
+    private double fpsInterval;
+    private double upsInterval;
+    private long lastReloadCheck;
+    private TickWatchdog watchdog;
 
-    // ALL commented code is for FPS checking
-    /*long timer =0;
-    int drawCount=0;*/
+    /**
+     * Constructor for the GameLoop that parks the thread between ticks.
+     * @param gameState the state of the game
+     * @param gv the visual rappresentation of the game
+     * @param view The stage of the current view
+     */
+    public GameLoop(final Optional<GameState> gameState, final Optional<GameViewState> gv, final Optional<Stage> view) {
+        this(gameState, gv, view, SchedulerMode.PARK, Optional.empty());
+    }
+
+    /**
+     * Constructor for the GameLoop that parks the thread between ticks and lets the game over restart the game.
+     * @param gameState the state of the game
+     * @param gv the visual rappresentation of the game
+     * @param view The stage of the current view
+     * @param engine the engine that restarts the game
+     */
+    public GameLoop(final Optional<GameState> gameState, final Optional<GameViewState> gv, final Optional<Stage> view,
+        final Optional<GameEngine> engine) {
+        this(gameState, gv, view, SchedulerMode.PARK, engine);
+    }
 
     /**
      * Constructor for the GameLoop.
      * @param gameState the state of the game
      * @param gv the visual rappresentation of the game
      * @param view The stage of the current view
+     * @param mode how the loop waits for the next tick or frame
+     * @param engine the engine that restarts the game, if empty the game over goes back to the menu
      */
-    public GameLoop(final Optional<GameState> gameState, final Optional<GameViewState> gv, final Optional<Stage> view) {
-        this.gameState = gameState.orElseThrow();
-        this.gv = gv.orElseThrow();
-        this.view = view.orElseThrow();
+    public GameLoop(final Optional<GameState> gameState, final Optional<GameViewState> gv, final Optional<Stage> view,
+        final SchedulerMode mode, final Optional<GameEngine> engine) {
+        this(gameState, gv, view, mode, engine, new GameSession(gameState.orElseThrow().getWorld().orElseThrow().getTimers()));
+    }
+
+    /**
+     * Constructor for the GameLoop of a {@link GameSession}.
+     * The loop stops as soon as the session is closed, and closes the session itself when the game is over.
+     * @param gameState the state of the game
+     * @param gv the visual rappresentation of the game
+     * @param view The stage of the current view
+     * @param mode how the loop waits for the next tick or frame
+     * @param engine the engine that restarts the game, if empty the game over goes back to the menu
+     * @param session the session that owns the threads of the game
+     */
+    public GameLoop(final Optional<GameState> gameState, final Optional<GameViewState> gv, final Optional<Stage> view,
+        final SchedulerMode mode, final Optional<GameEngine> engine, final GameSession session) {
+        this(gameState.orElseThrow(), Optional.of(gv.orElseThrow()), Optional.of(view.orElseThrow()), mode, engine, session);
+    }
+
+    /**
+     * Constructor for the GameLoop of a {@link GameSession} without a view: the ticks update the game
+     * as usual, but nothing is rendered and the game over shows nothing.
+     * @param gameState the state of the game
+     * @param session the session that owns the threads of the game
+     */
+    public GameLoop(final Optional<GameState> gameState, final GameSession session) {
+        this(gameState.orElseThrow(), Optional.empty(), Optional.empty(), SchedulerMode.PARK, Optional.empty(), session);
+    }
+
+    private GameLoop(final GameState gameState, final Optional<GameViewState> gv, final Optional<Stage> view,
+        final SchedulerMode mode, final Optional<GameEngine> engine, final GameSession session) {
+        this.gameState = gameState;
+        this.gv = gv;
+        this.view = view;
+        this.mode = mode;
+        this.statistics = new LoopStatistics(REPORT_INTERVAL);
+        this.engine = engine;
+        this.session = session;
+        this.gameState.getWorld().orElseThrow().setWriter(this);
+        applyTunables();
     }
 
     /**
@@ -49,68 +127,197 @@ public class GameLoop extends Thread {
     @Override
     public void run() {
         long now;
-        long lastFrame = System.nanoTime();
+        long lastFrame = System.nanoTime() - (long) fpsInterval;
         pastTime = System.nanoTime();
+        lastReloadCheck = pastTime;
+        applyWatchdog();
 
+        gameState.getWorld().orElseThrow().addGameOverListener(() -> LockSupport.unpark(this));
         gameState.initGame();
         if (gameState.getScoreLocalStorage().orElseThrow().getScoreFile().exists()) {
             gameState.notifyRead();
         }
         do {
+            if (gameState.isPaused()) {
+                idle();
+            }
             now = System.nanoTime();
 
-            if (syncTime(UPS_INTERVAL)) {
+            final int ticks = syncTime(upsInterval);
+            for (int i = 0; i < ticks && isRunning(); i++) {
                 update();
             }
+            if (now - lastReloadCheck >= RELOAD_CHECK_INTERVAL) {
+                lastReloadCheck = now;
+                if (TuningProfile.reloadIfChanged()) {
+                    // the pooled moles keep the sizes and speeds they were built with
+                    gameState.getEntityFactory().clearPools();
+                    applyTunables();
+                    applyWatchdog();
+                }
+            }
 
-            if ((now - lastFrame) >= FPS_INTERVAL) {
+            if ((now - lastFrame) >= fpsInterval) {
                 repaint();
                 lastFrame = now;
-                //drawCount++;
-            } /*
-            if (timer >= 1000000000) {
-                System.out.println("FPS: "+ drawCount);
-                //System.out.println(gameState.getScore());
-                drawCount=0;
-                timer=0;
-            }*/
-        } while (!gameState.isGameOver());
+            }
+            statistics.reportIfDue(now);
+            if (mode == SchedulerMode.PARK) {
+                waitUntil(Math.min(nextTickDeadline(upsInterval), lastFrame + (long) fpsInterval));
+            }
+        } while (isRunning());
+        if (watchdog != null) {
+            watchdog.close();
+        }
+        gv.ifPresent(GameViewState::stop);
+        if (!gameState.isGameOver()) {
+            // the session was closed before the end of the game
+            gameState.stopEnemyCreation();
+            return;
+        }
+        gv.ifPresent(state -> logger.info(() -> String.format("frames rendered: %d, dropped: %d, skipped pulses: %d",
+            state.getRenderedFrames(), state.getDroppedFrames(), state.getSkippedPulses())));
+        logger.info(gameState.getEntityFactory()::getPoolStatistics);
         gameState.stopEnemyCreation();
 
         gameState.notifyWrite();
+        session.close();
 
-        new WindowImpl(new GameOverWinState(gameState.getScore(), gameState.getSkins())).launch(view);
+        view.ifPresent(stage -> new WindowImpl(new GameOverWinState(gameState.getScore(), gameState.getSkins(), engine))
+            .launch(stage));
+    }
+
+    /**
+     * Read the loop rates from the {@link TuningProfile}, called between ticks.
+     */
+    private void applyTunables() {
+        this.fpsInterval = NANOS_PER_SECOND / TuningProfile.get(Tunable.FPS);
+        this.upsInterval = NANOS_PER_SECOND / TuningProfile.get(Tunable.UPS);
+        this.maxCatchUpTicks = TuningProfile.getInt(Tunable.MAX_CATCH_UP_TICKS);
+        gameState.getWorld().orElseThrow().getTimers().setTimeScale(TuningProfile.get(Tunable.TIME_SCALE));
+        gameState.getWorld().orElseThrow().setParallelUpdate(TuningProfile.getInt(Tunable.PARALLEL_UPDATE) != 0);
+        gameState.getWorld().orElseThrow().setColumnStorage(TuningProfile.getInt(Tunable.COLUMN_STORAGE) != 0);
+    }
+
+    /**
+     * Start, restart with a new budget or stop the {@link TickWatchdog} as set in the {@link TuningProfile}.
+     */
+    private void applyWatchdog() {
+        if (watchdog != null) {
+            watchdog.close();
+            watchdog = null;
+        }
+        if (TuningProfile.getInt(Tunable.WATCHDOG) != 0) {
+            watchdog = new TickWatchdog(this, TimeUnit.MICROSECONDS.toNanos(TuningProfile.getInt(Tunable.TICK_BUDGET)),
+                session.newScheduledExecutor("tick-watchdog"));
+        }
     }
 
     /**
      * Update the logic of the Game.
+     * The game timers move forward by one tick, then the world is updated and its snapshot is published to the view.
+     * If the watchdog is enabled the tick is timed phase by phase.
      */
     public void update() {
-        gameState.getWorld().orElseThrow().updateWorld();
+        gameState.getWorld().orElseThrow().applyCommands();
+        gameState.getWorld().orElseThrow().getTimers().advance((long) upsInterval);
+        if (watchdog == null) {
+            gameState.getWorld().orElseThrow().updateWorld();
+        } else {
+            gameState.getWorld().orElseThrow().updateWorld(watchdog.beginTick());
+            watchdog.endTick();
+        }
+        gv.ifPresent(GameViewState::capture);
     }
 
     /**
      * Repaint the Window with the change ocurred by the {@link #update()} method.
+     * The time accumulated towards the next tick tells the view how far to interpolate the entities.
      */
     private void repaint() {
-            gv.render(view);
+        gv.ifPresent(state -> {
+            state.setInterpolation(Math.min(delta, 1));
+            state.render(view.orElseThrow());
+        });
     }
 
     /**
-     *  Syncronize the {@link GameLoop} with the desired refresh rating ({@value #UPS}).
+     *  Syncronize the {@link GameLoop} with the desired refresh rating ({@link Tunable#UPS}).
+     *  After a stall at most {@link Tunable#MAX_CATCH_UP_TICKS} ticks are run to catch up,
+     *  the rest of the backlog is dropped so the game does not fast-forward.
      * @param interval : the time span of the refresh rate expressed in nanosecond
-     * @return {@code True} if the time passed is equal or more of the desired {@link #DRAW_INTERVAL};
-     * Otherwise {@code False}.
+     * @return the number of ticks to run, {@code 0} if less than an interval has passed
      */
-    private boolean syncTime(final double interval) {
+    private int syncTime(final double interval) {
         final long currentTime = System.nanoTime();
         delta += (currentTime - pastTime) / interval;
-        //timer += (currentTime - pastTime);
         pastTime = currentTime;
-        if (delta >= 1) {
-            delta--;
-            return true;
+        if (delta < 1) {
+            return 0;
+        }
+        statistics.recordTick((long) ((delta - 1) * interval));
+        final int ticks = (int) delta;
+        delta -= ticks;
+        if (ticks > maxCatchUpTicks) {
+            final int dropped = ticks - maxCatchUpTicks;
+            statistics.recordDroppedTicks(dropped, (long) (dropped * interval));
+            statistics.recordOverrunTicks(maxCatchUpTicks - 1);
+            return maxCatchUpTicks;
+        }
+        statistics.recordOverrunTicks(ticks - 1);
+        return ticks;
+    }
+
+    /**
+     * Keep the loop thread parked while the game is paused, so a paused game costs almost no CPU.
+     * The time spent paused is skipped, while the progress towards the next tick is kept.
+     */
+    private void idle() {
+        while (gameState.isPaused() && isRunning()) {
+            LockSupport.parkNanos(PAUSE_POLL_INTERVAL);
+        }
+        pastTime = System.nanoTime();
+    }
+
+    /**
+     * Compute when the accumulated time will reach the next tick.
+     * @param interval : the time span of the refresh rate expressed in nanosecond
+     * @return the deadline of the next tick expressed in nanosecond
+     */
+    private long nextTickDeadline(final double interval) {
+        return pastTime + (long) ((1 - delta) * interval);
+    }
+
+    /**
+     * Park the loop thread until {@link #SPIN_WINDOW} before the deadline, then spin until the deadline.
+     * Parking gives the core back to the system, while the final spin keeps the tick precise.
+     * The wait ends early when the game is over or the session is closed.
+     * @param deadline the time to wait for, expressed in nanosecond
+     */
+    private void waitUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > SPIN_WINDOW && isRunning()) {
+            LockSupport.parkNanos(remaining - SPIN_WINDOW);
+            remaining = deadline - System.nanoTime();
         }
-        return false;
+        while (System.nanoTime() < deadline && isRunning()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Tells if the loop has to go on.
+     * @return {@code True} until the game is over or the session is closed
+     */
+    private boolean isRunning() {
+        return !gameState.isGameOver() && !session.isClosed();
+    }
+
+    /**
+     * Getter for the timing statistics of the loop.
+     * @return the statistics
+     */
+    public LoopStatistics getStatistics() {
+        return statistics;
     }
 }
@@ -0,0 +1,159 @@
+package it.unibo.smol.core;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.smol.common.TimerWheel;
+
+/**
+ * The lifecycle of one game: it owns every thread, executor and timer started for the game
+ * and shuts all of them down when the game ends or restarts.
+ * Closing the session cancels the pending timers, runs the close actions in the reverse order
+ * they were added, stops the executors and interrupts the threads, waiting for each of them
+ * to terminate for at most {@value #TERMINATION_TIMEOUT} milliseconds.
+ */
+public class GameSession implements AutoCloseable {
+
+    /** Max time to wait for a thread or an executor to terminate, in milliseconds. */
+    public static final long TERMINATION_TIMEOUT = 1000;
+
+    private static Logger logger = Logger.getLogger(GameSession.class.getName());
+
+    private final TimerWheel timers;
+    private final Deque<AutoCloseable> closeActions;
+    private final List<ExecutorService> executors;
+    private final List<Thread> threads;
+    private volatile boolean closed;
+
+    /**
+     * Constructor for a session with timers of its own.
+     */
+    public GameSession() {
+        this(new TimerWheel());
+    }
+
+    /**
+     * Constructor for a session of a game that runs on the given timers.
+     * @param timers the timer wheel of the game, its tasks are cancelled when the session is closed
+     */
+    public GameSession(final TimerWheel timers) {
+        this.timers = timers;
+        this.closeActions = new ConcurrentLinkedDeque<>();
+        this.executors = new CopyOnWriteArrayList<>();
+        this.threads = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Getter for the timers of the game.
+     * @return the timer wheel
+     */
+    public TimerWheel getTimers() {
+        return this.timers;
+    }
+
+    /**
+     * Start a thread of the game, it is interrupted and joined when the session is closed.
+     * @param <T> the type of the thread
+     * @param thread the thread to start
+     * @return the started thread
+     */
+    public <T extends Thread> T start(final T thread) {
+        checkOpen();
+        threads.removeIf(t -> !t.isAlive());
+        threads.add(thread);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Create a single threaded scheduled executor with a daemon thread, stopped when the session is closed.
+     * @param name the name of the thread
+     * @return the executor
+     */
+    public ScheduledExecutorService newScheduledExecutor(final String name) {
+        checkOpen();
+        executors.removeIf(ExecutorService::isShutdown);
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, name);
+            thread.setDaemon(true);
+            // an executor is terminated just before its thread ends, so the thread is joined as well
+            threads.removeIf(t -> !t.isAlive());
+            threads.add(thread);
+            return thread;
+        });
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Add an action to run when the session is closed, e.g. to stop a component of the game.
+     * @param action the action to run
+     */
+    public void onClose(final AutoCloseable action) {
+        checkOpen();
+        closeActions.push(action);
+    }
+
+    /**
+     * Tells if the session was closed.
+     * @return {@code True} if {@link #close()} was called
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Shut down everything the session owns. Closing a session more than once has no effect.
+     * A thread of the session can close it: it is interrupted but not joined.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        timers.cancelAll();
+        threads.stream().filter(t -> t != Thread.currentThread()).forEach(Thread::interrupt);
+        AutoCloseable action = closeActions.poll();
+        while (action != null) {
+            try {
+                action.close();
+            } catch (Exception e) {
+                // a failing action must not stop the others
+                logger.log(Level.WARNING, "Error while closing the game session", e);
+            }
+            action = closeActions.poll();
+        }
+        executors.forEach(ExecutorService::shutdownNow);
+        try {
+            for (final ExecutorService executor : executors) {
+                executor.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+            for (final Thread thread : threads) {
+                if (thread != Thread.currentThread()) {
+                    thread.join(TERMINATION_TIMEOUT);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executors.clear();
+        threads.clear();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The game session is closed");
+        }
+    }
+}
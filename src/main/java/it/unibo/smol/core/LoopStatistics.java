@@ -0,0 +1,134 @@
+package it.unibo.smol.core;
+
+import java.util.logging.Logger;
+
+/**
+ * Collects timing statistics of the {@link GameLoop} and periodically reports them.
+ * The jitter of a tick is how late the tick started compared to its ideal deadline.
+ * An overrun tick is a tick run immediately after another one to catch up with the clock,
+ * a dropped tick is a tick that was skipped because the backlog was over the catch-up limit.
+ */
+public class LoopStatistics {
+
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static Logger logger = Logger.getLogger(LoopStatistics.class.getName());
+
+    private final long reportInterval;
+    private long windowStart;
+    private long ticks;
+    private long jitterSum;
+    private long maxJitter;
+    private long totalTicks;
+    private long totalMaxJitter;
+    private long overrunTicks;
+    private long droppedTicks;
+    private long droppedTime;
+    private long totalOverrunTicks;
+    private long totalDroppedTicks;
+    private long totalDroppedTime;
+
+    /**
+     * Constructor for the statistics.
+     * @param reportInterval the time span between two reports, expressed in nanoseconds
+     */
+    public LoopStatistics(final long reportInterval) {
+        this.reportInterval = reportInterval;
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Record the lateness of a tick.
+     * @param jitter how late the tick started, expressed in nanoseconds
+     */
+    public void recordTick(final long jitter) {
+        ticks++;
+        totalTicks++;
+        jitterSum += jitter;
+        maxJitter = Math.max(maxJitter, jitter);
+        totalMaxJitter = Math.max(totalMaxJitter, jitter);
+    }
+
+    /**
+     * Record the ticks run to catch up with the clock.
+     * @param ticks the number of ticks run after the first one
+     */
+    public void recordOverrunTicks(final int ticks) {
+        overrunTicks += ticks;
+        totalOverrunTicks += ticks;
+    }
+
+    /**
+     * Record the ticks that were skipped because the backlog was over the catch-up limit.
+     * @param ticks the number of dropped ticks
+     * @param time the dropped time, expressed in nanoseconds
+     */
+    public void recordDroppedTicks(final int ticks, final long time) {
+        droppedTicks += ticks;
+        totalDroppedTicks += ticks;
+        droppedTime += time;
+        totalDroppedTime += time;
+    }
+
+    /**
+     * Log the statistics of the current window if the report interval has elapsed, then start a new window.
+     * @param now the current time expressed in nanoseconds
+     */
+    public void reportIfDue(final long now) {
+        if (now - windowStart >= reportInterval) {
+            if (ticks > 0) {
+                logger.info(() -> String.format("ticks: %d, avg jitter: %d us, max jitter: %d us, "
+                    + "overrun ticks: %d, dropped ticks: %d (%d ms)",
+                    ticks, jitterSum / ticks / NANOS_PER_MICRO, maxJitter / NANOS_PER_MICRO,
+                    overrunTicks, droppedTicks, droppedTime / NANOS_PER_MILLI));
+            }
+            windowStart = now;
+            ticks = 0;
+            jitterSum = 0;
+            maxJitter = 0;
+            overrunTicks = 0;
+            droppedTicks = 0;
+            droppedTime = 0;
+        }
+    }
+
+    /**
+     * Getter for the number of ticks recorded since the creation of the statistics.
+     * @return the total number of ticks
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Getter for the worst jitter recorded since the creation of the statistics.
+     * @return the max jitter expressed in nanoseconds
+     */
+    public long getMaxJitter() {
+        return totalMaxJitter;
+    }
+
+    /**
+     * Getter for the number of ticks run to catch up since the creation of the statistics.
+     * @return the total number of overrun ticks
+     */
+    public long getOverrunTicks() {
+        return totalOverrunTicks;
+    }
+
+    /**
+     * Getter for the number of ticks dropped since the creation of the statistics.
+     * @return the total number of dropped ticks
+     */
+    public long getDroppedTicks() {
+        return totalDroppedTicks;
+    }
+
+    /**
+     * Getter for the time dropped since the creation of the statistics.
+     * @return the total dropped time expressed in nanoseconds
+     */
+    public long getDroppedTime() {
+        return totalDroppedTime;
+    }
+}
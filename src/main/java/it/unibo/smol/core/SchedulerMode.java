@@ -0,0 +1,18 @@
+package it.unibo.smol.core;
+
+/**
+ * The strategies the {@link GameLoop} can use to wait for the next tick or frame.
+ */
+public enum SchedulerMode {
+
+    /**
+     * The loop never sleeps and keeps polling the clock, using a whole core.
+     */
+    BUSY_SPIN,
+
+    /**
+     * The loop parks its thread until shortly before the next deadline,
+     * then spins for the last few microseconds to stay precise.
+     */
+    PARK;
+}
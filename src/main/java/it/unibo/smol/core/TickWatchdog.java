@@ -0,0 +1,182 @@
+package it.unibo.smol.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import it.unibo.smol.model.PhaseTimes;
+
+/**
+ * Times every tick of the {@link GameLoop} and reports the ones that take longer than a budget.
+ * While a tick is running a monitor thread samples the stack of the loop thread once the budget is exceeded,
+ * so the report tells where the loop was stuck. Each report is a compact record appended to
+ * {@value #FILE_NAME} in the Smol folder of the user, with the phase breakdown and the entity counts.
+ */
+public class TickWatchdog {
+
+    /** Name of the file with the reports of the slow ticks. */
+    public static final String FILE_NAME = "SlowTicks.log";
+
+    private static final String PATH = System.getProperty("user.home") + File.separator + "Smol";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    /** Min time between two reports, the slow ticks in between are only counted, in nanoseconds. */
+    private static final long REPORT_INTERVAL = 1_000_000_000;
+    private static final int MAX_FRAMES = 32;
+
+    private static Logger logger = Logger.getLogger(TickWatchdog.class.getName());
+
+    private final Thread loopThread;
+    private final long budget;
+    private final PhaseTimes times;
+    private final ScheduledExecutorService monitor;
+    private final AtomicReference<Sample> sample;
+    private final File reportFile;
+    private volatile long tickStart;
+    private volatile long tick;
+    private long lastReport;
+    private long suppressed;
+    private long slowTicks;
+
+    /**
+     * Constructor for the TickWatchdog running on the given executor, the monitor starts immediately.
+     * @param loopThread the thread running the ticks
+     * @param budget the max time of a tick, expressed in nanoseconds
+     * @param monitor the executor of the monitor, made by the {@link GameSession} of the loop, shut down by {@link #close()}
+     */
+    public TickWatchdog(final Thread loopThread, final long budget, final ScheduledExecutorService monitor) {
+        this.loopThread = loopThread;
+        this.budget = budget;
+        this.times = new PhaseTimes();
+        this.sample = new AtomicReference<>();
+        this.reportFile = new File(PATH, FILE_NAME);
+        this.lastReport = System.nanoTime() - REPORT_INTERVAL;
+        this.monitor = monitor;
+        final long period = Math.max(budget / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        this.monitor.scheduleAtFixedRate(this::check, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Start timing a tick.
+     * @return where the phases of the tick are timed
+     */
+    public PhaseTimes beginTick() {
+        times.reset();
+        tick++;
+        tickStart = System.nanoTime();
+        return times;
+    }
+
+    /**
+     * Stop timing the tick, reporting it if it took longer than the budget.
+     */
+    public void endTick() {
+        final long end = System.nanoTime();
+        final long start = tickStart;
+        tickStart = 0;
+        final long duration = end - start;
+        if (duration <= budget) {
+            return;
+        }
+        slowTicks++;
+        if (end - lastReport < REPORT_INTERVAL) {
+            suppressed++;
+            return;
+        }
+        lastReport = end;
+        final Sample stack = sample.get();
+        final String record = format(duration, stack != null && stack.tick == tick ? stack : null);
+        suppressed = 0;
+        monitor.execute(() -> write(record));
+    }
+
+    /**
+     * Getter for the number of ticks over the budget.
+     * @return the slow ticks
+     */
+    public long getSlowTicks() {
+        return slowTicks;
+    }
+
+    /**
+     * Stop the monitor thread, the pending reports are dropped.
+     */
+    public void close() {
+        monitor.shutdownNow();
+    }
+
+    /**
+     * Sample the stack of the loop thread if the current tick is over the budget, once per tick.
+     */
+    private void check() {
+        final long current = tick;
+        final long start = tickStart;
+        final Sample last = sample.get();
+        if (start == 0 || System.nanoTime() - start <= budget || last != null && last.tick == current) {
+            return;
+        }
+        final StackTraceElement[] stack = loopThread.getStackTrace();
+        if (tick == current && tickStart == start) {
+            sample.set(new Sample(current, System.nanoTime() - start, stack));
+        }
+    }
+
+    private String format(final long duration, final Sample stack) {
+        final String newLine = System.lineSeparator();
+        final StringBuilder builder = new StringBuilder()
+            .append(Instant.now()).append(" slow tick ").append(millis(duration))
+            .append(" ms (budget ").append(millis(budget)).append(" ms");
+        if (suppressed > 0) {
+            builder.append(", ").append(suppressed).append(" slow ticks not reported");
+        }
+        builder.append(')').append(newLine).append(times.format()).append(newLine);
+        if (stack == null) {
+            builder.append("loop thread not sampled").append(newLine);
+        } else {
+            builder.append("loop thread at ").append(millis(stack.offset)).append(" ms:").append(newLine);
+            for (int i = 0; i < Math.min(stack.frames.length, MAX_FRAMES); i++) {
+                builder.append("\tat ").append(stack.frames[i]).append(newLine);
+            }
+        }
+        return builder.append(newLine).toString();
+    }
+
+    private void write(final String record) {
+        try {
+            if (!reportFile.getParentFile().exists() && !reportFile.getParentFile().mkdirs()) {
+                logger.info("IOException mkdir");
+                return;
+            }
+            Files.writeString(reportFile.toPath(), record, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.info("IOException writing " + FILE_NAME);
+        }
+    }
+
+    private static String millis(final long time) {
+        return String.format(Locale.ROOT, "%.3f", time / NANOS_PER_MILLI);
+    }
+
+    /**
+     * The stack of the loop thread sampled during a tick.
+     */
+    private static final class Sample {
+        private final long tick;
+        private final long offset;
+        private final StackTraceElement[] frames;
+
+        Sample(final long tick, final long offset, final StackTraceElement[] frames) {
+            this.tick = tick;
+            this.offset = offset;
+            this.frames = frames;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package it.unibo.smol.model;
+
+/**
+ * This enum define the phases of the update of an entity during a tick.
+ */
+public enum Phase {
+    /**
+     * The input component gives the movement to the physics component.
+     */
+    INPUT,
+
+    /**
+     * The entity moves to the position computed by the physics component.
+     */
+    POSITION,
+
+    /**
+     * The physics component checks the collisions with the other entities.
+     */
+    COLLISION,
+
+    /**
+     * The health component is checked and dead entities are removed.
+     */
+    HEALTH,
+}
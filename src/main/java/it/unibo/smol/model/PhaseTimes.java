@@ -0,0 +1,101 @@
+package it.unibo.smol.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Time spent in each {@link Phase} of a tick, split by the {@link Type} of the entities.
+ */
+public class PhaseTimes {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[][] nanos;
+    private final int[] counts;
+
+    /**
+     * Constructor for empty PhaseTimes.
+     */
+    public PhaseTimes() {
+        this.nanos = new long[Phase.values().length][Type.values().length];
+        this.counts = new int[Type.values().length];
+    }
+
+    /**
+     * Add the time an entity spent in a phase.
+     * @param phase the phase of the update
+     * @param type the type of the entity
+     * @param time the time expressed in nanoseconds
+     */
+    public void record(final Phase phase, final Type type, final long time) {
+        nanos[phase.ordinal()][type.ordinal()] += time;
+    }
+
+    /**
+     * Count an entity updated during the tick.
+     * @param type the type of the entity
+     */
+    public void count(final Type type) {
+        counts[type.ordinal()]++;
+    }
+
+    /**
+     * Getter for the time spent in a phase by the entities of a type.
+     * @param phase the phase of the update
+     * @param type the type of the entities
+     * @return the time expressed in nanoseconds
+     */
+    public long get(final Phase phase, final Type type) {
+        return nanos[phase.ordinal()][type.ordinal()];
+    }
+
+    /**
+     * Getter for the number of entities of a type updated during the tick.
+     * @param type the type of the entities
+     * @return the number of entities
+     */
+    public int getCount(final Type type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Clear the times and the counts for a new tick.
+     */
+    public void reset() {
+        for (final long[] phase : nanos) {
+            Arrays.fill(phase, 0);
+        }
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Compact description of the times, one line for the entity counts and one for each phase.
+     * Types without entities are left out.
+     * @return the description
+     */
+    public String format() {
+        final StringBuilder builder = new StringBuilder("entities:");
+        for (final Type type : Type.values()) {
+            if (getCount(type) > 0) {
+                builder.append(' ').append(type).append('=').append(getCount(type));
+            }
+        }
+        for (final Phase phase : Phase.values()) {
+            long total = 0;
+            final StringBuilder types = new StringBuilder();
+            for (final Type type : Type.values()) {
+                total += get(phase, type);
+                if (getCount(type) > 0) {
+                    types.append(' ').append(type).append('=').append(millis(get(phase, type)));
+                }
+            }
+            builder.append(System.lineSeparator()).append(phase).append(": ").append(millis(total)).append(" ms [")
+                .append(types.toString().trim()).append(']');
+        }
+        return builder.toString();
+    }
+
+    private static String millis(final long time) {
+        return String.format(Locale.ROOT, "%.3f", time / NANOS_PER_MILLI);
+    }
+}
@@ -1,10 +1,11 @@
 package it.unibo.smol.model.api;
 
-import javafx.geometry.Point2D;
 import java.util.Optional;
 
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.InputComponent;
 import it.unibo.smol.model.Type;
+import it.unibo.smol.model.impl.EntityColumns;
 import it.unibo.smol.model.impl.HealthComponent;
 import it.unibo.smol.view.api.GraphicComponent;
 
@@ -24,11 +25,58 @@ public interface Entity {
      */
     double getCurrentY();
 
+    /**
+     * Get the x coordinate the object had at the end of the previous tick.
+     * @return the previous {@code x}
+     */
+    double getPreviousX();
+
+    /**
+     * Get the y coordinate the object had at the end of the previous tick.
+     * @return the previous {@code y}
+     */
+    double getPreviousY();
+
+    /**
+     * Store the current position as the previous one, called at the start of every tick.
+     */
+    void storePreviousPosition();
+
+    /**
+     * Getter for the handle of the entity in its world.
+     * @return the handle, {@link it.unibo.smol.common.SlotMap#NO_HANDLE} if the entity isn't in a world
+     */
+    long getHandle();
+
+    /**
+     * Setter for the handle of the entity, called by the world when the entity is added or removed.
+     * @param handle the handle given by the world
+     */
+    void setHandle(long handle);
+
+    /**
+     * Move the position, the movement and the hitbox of the entity in a slot of the columns of its world,
+     * or back in the entity.
+     * @param columns the columns to use, empty to keep the state in the entity
+     */
+    void setColumns(Optional<EntityColumns> columns);
+
+    /**
+     * Getter for the slot of the entity in the columns of its world.
+     * @return the slot, {@link EntityColumns#NO_SLOT} if the entity keeps its own state
+     */
+    int getSlot();
+
+    /**
+     * Called by the world once the entity has been removed from it.
+     */
+    void onRemove();
+
     /**
      * Get the current position of the object.
-     * @return a Point2D
+     * @return a Vector2D
      */
-    Point2D getCurrentPosition();
+    Vector2D getCurrentPosition();
 
     /**
      * Getter for the World. 
@@ -1,7 +1,8 @@
 package it.unibo.smol.model.api;
 
+import it.unibo.smol.common.EnemyArchetype;
 import it.unibo.smol.common.HitBox;
-import javafx.geometry.Point2D;
+import it.unibo.smol.common.Vector2D;
 
 /**
  *  Interface for implementing a factory that create different instance of Entities.
@@ -9,12 +10,13 @@ import javafx.geometry.Point2D;
 public interface EntityFactory {
 
     /**
-     * create a basic enemy entities.
+     * create an enemy entities of a kind.
+     * @param archetype the kind of the enemy, that gives its health, speed, sprites and behaviour
      * @param initialPosition the initial position of the enemy
      * @param w the world where the entity get create
-     * @return a entities that rappresent the basic enemy
+     * @return a entities that rappresent the enemy
      */
-    Entity createBasicEnemy(Point2D initialPosition, World w);
+    Entity createEnemy(EnemyArchetype archetype, Vector2D initialPosition, World w);
 
     /**
      * create a player entities.
@@ -44,34 +46,21 @@ public interface EntityFactory {
     Entity createWeapon(double x, double y, World w);
 
     /**
-     * create an elmet enemy entities.
-     * @param initialPosition the initial position of the enemy
-     * @param w the world where the entity get create
-     * @return a entities that rappresent the enemy with more HP
-     */
-    Entity createHelmetEnemy(Point2D initialPosition, World w);
-
-    /**
-     * create an angry enemy entities.
-     * @param initialPosition the initial position of the enemy
+     * create a Wall entity.
+     * @param hitBox the effective dimension of the wall
      * @param w the world where the entity get create
-     * @return a entities that rappresent the enemy with more movement speed
+     * @return a entities that rappresent a wall for boundingbox
      */
-    Entity createAngryEnemy(Point2D initialPosition, World w);
+    Entity createWall(HitBox hitBox, World w);
 
     /**
-     * create an Bomb enemy entities.
-     * @param initialPosition the initial position of the enemy
-     * @param w the world where the entity get create
-     * @return a entities that rappresent the enemy with more movement speed
+     * empties the pools that the enemies are taken from, so the next enemies are built again.
      */
-    Entity createBombEnemy(Point2D initialPosition, World w);
+    void clearPools();
 
     /**
-     * create a Wall entity.
-     * @param hitBox the effective dimension of the wall
-     * @param w the world where the entity get create
-     * @return a entities that rappresent a wall for boundingbox
+     * gets the usage of the pools that the enemies are taken from, one line for each kind of enemy.
+     * @return the report of the pools
      */
-    Entity createWall(HitBox hitBox, World w);
+    String getPoolStatistics();
 }
@@ -1,10 +1,13 @@
 package it.unibo.smol.model.api;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import it.unibo.smol.common.Directions;
 import it.unibo.smol.common.HitBox;
-import javafx.geometry.Point2D;
+import it.unibo.smol.common.Vector2D;
+import it.unibo.smol.model.impl.EntityColumns;
 
 /**
  * Abstract class rappresenting the template of the Physics component for the {@link Entity}.
@@ -16,6 +19,9 @@ public abstract class PhysicsComponent {
     private final HitBox hitBox;
     private boolean isRigid;
     private Entity entity;
+    /** Where the movement, the center of the hitbox and the rigidity are kept while attached, {@code null} otherwise. */
+    private EntityColumns columns;
+    private int slot;
 
     /**
      * Constructor for the Physics component.
@@ -26,6 +32,7 @@ public abstract class PhysicsComponent {
         this.movementSpeed = movementSpeed;
         this.hitBox = hitBox.orElseThrow();
         this.isRigid = true;
+        this.slot = EntityColumns.NO_SLOT;
     }
 
     /**
@@ -33,22 +40,42 @@ public abstract class PhysicsComponent {
      */
     public void checkCollision() {
         if (this.entity != null) {
-            this.entity.getWorld().orElseThrow().getEntities().stream()
-            .filter(x -> x.getPhysicsComp().isPresent())
-            .map(x -> x.getPhysicsComp().orElseThrow())
-            .filter(x -> !this.equals(x))
-            .filter(x -> hitBox.isColliding(x.getHitBox().orElseThrow()))
-            .forEach(x -> {
-                    if (this.isRigid() && x.isRigid()) {
-                        //System.out.println("Entity "+this.entity.getType()+" has collided with "+x.entity.getType());
-                        this.collisonEvent(x.getEntity().orElseThrow());
-                    }
-                });
+            final List<Entity> collided = new ArrayList<>();
+            findCollisions(this.entity.getWorld().orElseThrow().getEntitySnapshot(), collided);
+            collided.forEach(this::resolveCollision);
         } else {
             throw new IllegalStateException("Entity should be linked to his component");
         }
     }
 
+    /**
+     * Find the entities colliding with this one, without resolving the collisions.
+     * Only the hitboxes are read, so the collisions of different entities can be found at the same time.
+     * @param others the entities to check, with fast random access, this entity is skipped if present
+     * @param collided where the entities colliding with this one are added, in the order they are found
+     */
+    public void findCollisions(final List<Entity> others, final List<Entity> collided) {
+        if (!this.isRigid()) {
+            return;
+        }
+        final int size = others.size();
+        for (int i = 0; i < size; i++) {
+            final Entity otherEntity = others.get(i);
+            final PhysicsComponent other = otherEntity.getPhysicsComp().orElseThrow();
+            if (!this.equals(other) && other.isRigid() && hitBox.isColliding(other.hitBox)) {
+                collided.add(otherEntity);
+            }
+        }
+    }
+
+    /**
+     * Resolve the effect of a collision found by {@link #findCollisions(List, List)}.
+     * @param entityCollided : The other entity that collided this one
+     */
+    public void resolveCollision(final Entity entityCollided) {
+        this.collisonEvent(entityCollided);
+    }
+
     /**
      * This method receive a {@link Directions} and translate it into actual movement.
      * @param move : the direction given
@@ -72,12 +99,12 @@ public abstract class PhysicsComponent {
     }
 
     /**
-     * This method receive a {@link Point2D} and translate it into actual movement.
+     * This method receive a {@link Vector2D} and translate it into actual movement.
      * @param move : the coordinate given
      */
-    public void receiveMovement(final Point2D move) {
-        x = move.getX();
-        y = move.getY();
+    public void receiveMovement(final Vector2D move) {
+        setX(move.getX());
+        setY(move.getY());
     }
 
     /**
@@ -109,7 +136,7 @@ public abstract class PhysicsComponent {
      * @return the amount of movement in the X coordinate
      */
     public double getX() {
-        return x;
+        return columns == null ? x : columns.getDeltaX(slot);
     }
 
     /**
@@ -117,7 +144,7 @@ public abstract class PhysicsComponent {
      * @return the amount of movement in the Y coordinate
      */
     public double getY() {
-        return y;
+        return columns == null ? y : columns.getDeltaY(slot);
     }
 
     /**
@@ -134,7 +161,7 @@ public abstract class PhysicsComponent {
      * {@code False} otherwise
      */
     public boolean isRigid() {
-        return isRigid;
+        return columns == null ? isRigid : columns.isRigid(slot);
     }
 
     /**
@@ -156,7 +183,11 @@ public abstract class PhysicsComponent {
      * @param x the actual moevement in the X coordinate
      */
     public void setX(final double x) {
-        this.x = x;
+        if (columns == null) {
+            this.x = x;
+        } else {
+            columns.setDeltaX(slot, x);
+        }
     }
 
     /**
@@ -164,7 +195,11 @@ public abstract class PhysicsComponent {
      * @param y the actual moevement in the Y coordinate
      */
     public void setY(final double y) {
-        this.y = y;
+        if (columns == null) {
+            this.y = y;
+        } else {
+            columns.setDeltaY(slot, y);
+        }
     }
 
     /**
@@ -172,7 +207,11 @@ public abstract class PhysicsComponent {
      * @param isRigid {@code True} if rigid; {@code False} otherwise
      */
     public void setRigid(final boolean isRigid) {
-        this.isRigid = isRigid;
+        if (columns == null) {
+            this.isRigid = isRigid;
+        } else {
+            columns.setRigid(slot, isRigid);
+        }
     }
 
     /**
@@ -181,7 +220,27 @@ public abstract class PhysicsComponent {
      * @param y
      */
     public void updateHitbox(final double x, final double y) {
-        this.hitBox.setCenter(new Point2D(x, y));
+        this.hitBox.setCenter(x, y);
+        if (columns != null) {
+            columns.setCenter(slot, x, y);
+        }
+    }
+
+    /**
+     * Move the movement and the rigidity of the component in the slot of its entity, or back in the component.
+     * Called by the entity when it moves its own state.
+     * @param newColumns the columns of the entity, empty to keep the state in the component
+     * @param newSlot the slot of the entity in the columns
+     */
+    public void setColumns(final Optional<EntityColumns> newColumns, final int newSlot) {
+        final double currentX = getX();
+        final double currentY = getY();
+        final boolean rigid = isRigid();
+        this.columns = newColumns.orElse(null);
+        this.slot = newColumns.isPresent() ? newSlot : EntityColumns.NO_SLOT;
+        setX(currentX);
+        setY(currentY);
+        setRigid(rigid);
     }
 
     /**
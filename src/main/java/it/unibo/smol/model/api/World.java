@@ -1,42 +1,71 @@
 package it.unibo.smol.model.api;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.TimerWheel;
 import it.unibo.smol.controller.input.KeyInputs;
 import it.unibo.smol.controller.input.MouseInputs;
+import it.unibo.smol.model.PhaseTimes;
+import it.unibo.smol.model.impl.EventBus;
+import it.unibo.smol.model.impl.PlantReservations;
 
 /**
  * Interface for World: a container for entities.
  */
 public interface World {
     /**
-     * @return list of moles.
+     * @return list of moles, a read-only view that follows the world.
      */
     List<Entity> getMoles();
 
     /**
      * @return player.
+     * @throws java.util.NoSuchElementException if there is no player in the world
      */
     Entity getPlayer();
 
     /**
-     * @return lifePlants.
+     * @return lifePlants, a read-only view that follows the world.
      */
     List<Entity> getLifePlants();
 
     /**
-     * @return all entities.
+     * @return a copy of all entities.
      */
     ConcurrentLinkedDeque<Entity> getEntities();
 
+    /**
+     * All the entities as a read-only list that isn't copied on every call: the list is taken again
+     * only after an entity is added or removed, and a list already taken never changes,
+     * so it can be iterated while the world changes. The threads other than the writer get the list of the end
+     * of the last tick.
+     * @return the entities, in the order of the world
+     */
+    List<Entity> getEntitySnapshot();
+
     /**
      * @param thisEntity entity to remove from the list of entities.
      */
     void remove(Entity thisEntity);
 
+    /**
+     * Apply the changes queued by the other threads, in the order they were made.
+     * The caller becomes the only thread that changes the world directly: called by the game loop
+     * at the start of every tick.
+     */
+    void applyCommands();
+
+    /**
+     * Make a thread the only one that changes the world directly, before it starts: from now on the changes
+     * made by the other threads are queued for its next {@link #applyCommands()}. Called when the game loop is built,
+     * so nothing changes the world at the same time as the loop starts the game.
+     * @param thread the thread that writes the world
+     */
+    void setWriter(Thread thread);
+
     /**
      * @return score.
      */
@@ -44,9 +73,36 @@ public interface World {
 
     /**
      *  update Word.
+     *  The tick runs in phases: every entity processes its input and moves, then the collisions
+     *  of every entity are found, then they are resolved and the health checked entity by entity,
+     *  in the order of the entities.
      */
     void updateWorld();
 
+    /**
+     * update Word like {@link #updateWorld()}, timing the phases of the update of every entity.
+     * @param times where the time of each phase is added
+     */
+    void updateWorld(PhaseTimes times);
+
+    /**
+     * Choose if the collisions of a tick are found in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * By default the entities are updated one after the other, each one moving and resolving its collisions
+     * before the next one moves. In parallel every entity moves first, then the collisions are found on the
+     * positions after all the moves and resolved in the order of the entities: the result doesn't depend on
+     * how the work is split, but it isn't the same as the one of the default update.
+     * @param parallel {@code True} to find the collisions on all the cores
+     */
+    void setParallelUpdate(boolean parallel);
+
+    /**
+     * Choose if the position, the movement and the hitbox of the entities are kept in the
+     * {@link it.unibo.smol.model.impl.EntityColumns} of the world, where the collisions are found
+     * by going through primitive arrays, or in the entities. The result of a tick is the same in both modes.
+     * @param columns {@code True} to keep the state of the entities in columns
+     */
+    void setColumnStorage(boolean columns);
+
     /**
      * @param thisEntity is the entity to add to the list of entities.
      */
@@ -58,25 +114,72 @@ public interface World {
     void addFirstEntity(Entity thisEntity);
 
     /**
-     * increments game current game score.
-     * @param quantity is the incremental value
+     * Bring the life plants of the world to the given ones, in their order, as a single change:
+     * the plants in both stay without the listeners hearing about them, the others leave and the new ones enter.
+     * The game is over only if no plant is left at the end, not on the way.
+     * @param plants the life plants of the world after the change
      */
-    void incScore(int quantity);
+    void replacePlants(List<Entity> plants);
 
     /**
-     * @return a map of plants occupied.
+     * The number of life plants still in the world, kept up to date on every add and remove.
+     * @return the number of life plants
      */
-    Map<Entity, Boolean> occupiedPlants();
+    int getPlantCount();
+
+    /**
+     * Register a listener called once the last life plant is removed from the world.
+     * The listener runs on the thread that writes the world.
+     * @param listener the action to run when the game is over
+     */
+    void addGameOverListener(Runnable listener);
+
+    /**
+     * Run a change of the world on the thread that writes it: now if the caller is the writer,
+     * or if there is no writer yet as in a game run by a single thread, otherwise queued for the next
+     * {@link #applyCommands()}.
+     * @param command the change to apply
+     */
+    void submit(Runnable command);
+
+    /**
+     * gets the timer wheel that runs the delayed tasks of the game on game time.
+     * @return the timers of the world
+     */
+    TimerWheel getTimers();
+
+    /**
+     * gets the random numbers of the game, one stream for each subsystem.
+     * @return the random streams of the world
+     */
+    RandomStreams getRandom();
+
+    /**
+     * empties the world for a new game: removes every entity, resets the score
+     * and drops the pending timers, the queued changes and the game over listeners.
+     * The random streams restart from the seed of the new game.
+     * The world has no writer until the next {@link #setWriter(Thread)} or {@link #applyCommands()}.
+     */
+    void reset();
+
+    /**
+     * increments game current game score.
+     * @param quantity is the incremental value
+     */
+    void incScore(int quantity);
 
     /**
-     * @param plant the plant to set free.
+     * Getter for the bus of the events of the world, dispatched at the end of each tick.
+     * @return the event bus
      */
-    void setPlantFree(Entity plant);
+    EventBus getEvents();
 
     /**
-     * @param plant the plant to set occupied.
+     * Getter for the plants the moles go to eat, that the moles claim so that each goes to a different plant.
+     * It follows the plants of the world.
+     * @return the registry of the plants
      */
-    void setPlantOccupied(Entity plant);
+    PlantReservations getPlantReservations();
 
     /**
      * gets the keyInput in world.
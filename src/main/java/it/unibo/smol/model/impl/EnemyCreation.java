@@ -1,18 +1,22 @@
 package it.unibo.smol.model.impl;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.GameRandom;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.TimerWheel;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.GameState;
-import it.unibo.smol.view.GameMap;
-import javafx.geometry.Point2D;
 
 /**
  * Create enemies randomly, gives an initial position and changes weight for the random
@@ -20,11 +24,13 @@ import javafx.geometry.Point2D;
 */
 public class EnemyCreation {
 
-    private static final Random RANDOM = new Random();
-
     private final GameState gameState;
     private final Map<String, Double> entitiesMap;
-    private Timer createEnemyTimer;
+    private volatile TimerWheel.Timeout nextSpawn;
+    private final EventBus.Listener scoreListener;
+    /** If the difficulty changed since the last spawn, so the time between the spawns is chosen again. */
+    private boolean difficultyChanged;
+    private int spawnPeriod;
     private int difficultyLevel;
     private int minTimeEnemySpawn;
     private int maxTimeEnemySpawn;
@@ -35,107 +41,112 @@ public class EnemyCreation {
      */
     public EnemyCreation(final Optional<GameState> gameState) {
         this.gameState = gameState.orElseThrow();
-        this.entitiesMap = new HashMap<>(Map.of("Mole", Constant.DEF_RATE_BASIC,
-                                                "Helmet_mole", Constant.DEF_RATE_HELMET,
-                                                "Angry_mole", Constant.DEF_RATE_ANGRY,
-                                                "Bomb_mole", Constant.DEF_RATE_BOMB));
-        this.minTimeEnemySpawn = Constant.DEF_MIN_TIME_SPAWN;
-        this.maxTimeEnemySpawn = Constant.DEF_MAX_TIME_SPAWN;
+        this.entitiesMap = new LinkedHashMap<>();
+        EnemyArchetype.all().forEach(archetype -> entitiesMap.put(archetype.getName(), archetype.getSpawnRate()));
+        this.minTimeEnemySpawn = TuningProfile.getInt(Tunable.MIN_TIME_SPAWN);
+        this.maxTimeEnemySpawn = TuningProfile.getInt(Tunable.MAX_TIME_SPAWN);
         this.difficultyLevel = 0;
+        this.scoreListener = (none, score) -> onScoreChanged(score);
+    }
+
+    /**
+     * Raise the difficulty when the score reaches the next level, told by the events of the world.
+     * @param score the new score
+     */
+    private void onScoreChanged(final int score) {
+        final int level = score / TuningProfile.getInt(Tunable.INC_DIFFICULTY_PIVOT);
+        if (level <= Constant.DIFFICULTY_LIMIT && difficultyLevel < level) {
+            changeDifficulty(level);
+            difficultyChanged = true;
+        }
     }
 
     /**
      * Change the spawn rate of the enemies and the time spawn between two moles.
+     * @param temp the difficulty level of the score
      */
-    private void changeDifficulty() {
-        final int temp = gameState.getScore() / Constant.INC_DIFFICULTY_PIVOT;
-        entitiesMap.put("Angry_mole", Constant.DEF_RATE_ANGRY + (temp * Constant.INC_RATE_ANGRY));
-        entitiesMap.put("Helmet_mole", Constant.DEF_RATE_HELMET + (temp * Constant.INC_RATE_HELMET));
-        minTimeEnemySpawn = Constant.DEF_MIN_TIME_SPAWN - temp * Constant.DEC_TIME_SPAWN;
-        maxTimeEnemySpawn = Constant.DEF_MAX_TIME_SPAWN - temp * Constant.DEC_TIME_SPAWN;
+    private void changeDifficulty(final int temp) {
+        EnemyArchetype.all().forEach(archetype -> entitiesMap.put(archetype.getName(), archetype.getSpawnRate(temp)));
+        final int decTimeSpawn = TuningProfile.getInt(Tunable.DEC_TIME_SPAWN);
+        minTimeEnemySpawn = TuningProfile.getInt(Tunable.MIN_TIME_SPAWN) - temp * decTimeSpawn;
+        maxTimeEnemySpawn = TuningProfile.getInt(Tunable.MAX_TIME_SPAWN) - temp * decTimeSpawn;
         difficultyLevel++;
-        this.createEnemyTimer.cancel();
-        creationTimer();
     }
 
     /**
      * Spawn the enemy.
-     * @param enemyName : the name of the enemy
+     * @param enemyName : the name of the kind of the enemy
      */
     private void spawnEntity(final String enemyName) {
-        switch (enemyName) {
-            case "Mole":
-                gameState.getWorld().orElseThrow()
-                    .addEntity(gameState.getEntityFactory()
-                        .createBasicEnemy(initialEnemyPosition(), gameState.getWorld().orElseThrow()));
-                break;
-            case "Helmet_mole":
-                gameState.getWorld().orElseThrow()
-                    .addEntity(gameState.getEntityFactory()
-                        .createHelmetEnemy(initialEnemyPosition(), gameState.getWorld().orElseThrow()));
-                break;
-            case "Angry_mole":
-                gameState.getWorld().orElseThrow()
-                    .addEntity(gameState.getEntityFactory()
-                        .createAngryEnemy(initialEnemyPosition(), gameState.getWorld().orElseThrow()));
-                break;
-            case "Bomb_mole":
-                gameState.getWorld().orElseThrow()
-                    .addEntity(gameState.getEntityFactory()
-                        .createBombEnemy(initialEnemyPosition(), gameState.getWorld().orElseThrow()));
-                break;
-            default:
-                break;
-        }
+        gameState.getWorld().orElseThrow()
+            .addEntity(gameState.getEntityFactory()
+                .createEnemy(EnemyArchetype.get(enemyName), initialEnemyPosition(), gameState.getWorld().orElseThrow()));
     }
 
     /**
      * Timer that create moles with a certain delay (minTimeEnemySpawn and maxTimeEnemySpawn).
+     * The timer runs on the timer wheel of the world, so it follows the game time.
      */
     private void creationTimer() {
+        this.spawnPeriod = minTimeEnemySpawn + random().nextInt(Math.max(1, maxTimeEnemySpawn - minTimeEnemySpawn));
+        scheduleSpawn(minTimeEnemySpawn + random().nextInt(Math.max(1, maxTimeEnemySpawn - minTimeEnemySpawn)));
+    }
 
-        this.createEnemyTimer = new Timer();
-        this.createEnemyTimer.schedule(new TimerTask() {
-
-            @Override
-            public void run() {
-                if (gameState.getScore() / Constant.INC_DIFFICULTY_PIVOT <= Constant.DIFFICULTY_LIMIT
-                    && difficultyLevel < gameState.getScore() / Constant.INC_DIFFICULTY_PIVOT) {
-                    changeDifficulty();
-                }
-                final List<Double> weightList = new ArrayList<>(entitiesMap.values().stream().sorted().toList());
-                final Double randomDouble = Math.random();
+    /**
+     * Schedule the next spawn of the timer.
+     * @param delay the time before the spawn in milliseconds
+     */
+    private void scheduleSpawn(final int delay) {
+        this.nextSpawn = gameState.getWorld().orElseThrow().getTimers().schedule(this::spawnTick, delay);
+    }
 
-                spawnEntity(entitiesMap.entrySet()
-                    .stream()
-                    .filter(s -> s.getValue().equals(weightList.stream().sorted()
-                        .filter(x -> x >= randomDouble)
-                        .findFirst().get()))
-                    .findAny().get().getKey());
-            }
+    /**
+     * Spawn a random enemy and schedule the next spawn.
+     */
+    private void spawnTick() {
+        if (difficultyChanged) {
+            difficultyChanged = false;
+            creationTimer();
+        } else {
+            scheduleSpawn(spawnPeriod);
+        }
+        final List<Double> weightList = new ArrayList<>(entitiesMap.values().stream().sorted().toList());
+        final Double randomDouble = random().nextDouble();
 
-        }, minTimeEnemySpawn + RANDOM.nextInt(maxTimeEnemySpawn - minTimeEnemySpawn),
-        minTimeEnemySpawn + RANDOM.nextInt(maxTimeEnemySpawn - minTimeEnemySpawn));
+        spawnEntity(entitiesMap.entrySet()
+            .stream()
+            .filter(s -> s.getValue().equals(weightList.stream().sorted()
+                .filter(x -> x >= randomDouble)
+                .findFirst().get()))
+            .findAny().get().getKey());
     }
 
     /**
      * sets a position on the fence where the enemy starts.
      * @return the initial position
      */
-    private Point2D initialEnemyPosition() {
-        if (RANDOM.nextBoolean()) {
-            return new Point2D(randomBetweenTwo(GameMap.BORDER_WIDTH / 2,
-                GameMap.BORDER_WIDTH / 2 + GameMap.MAP_WIDTH),
-                GameMap.BORDER_HEIGHT / 2 + RANDOM
-                    .nextDouble(GameMap.MAP_HEIGHT - GameMap.BORDER_HEIGHT / 2));
+    private Vector2D initialEnemyPosition() {
+        if (random().nextBoolean()) {
+            return new Vector2D(randomBetweenTwo(MapDimensions.BORDER_WIDTH / 2,
+                MapDimensions.BORDER_WIDTH / 2 + MapDimensions.MAP_WIDTH),
+                MapDimensions.BORDER_HEIGHT / 2 + random()
+                    .nextDouble(MapDimensions.MAP_HEIGHT - MapDimensions.BORDER_HEIGHT / 2));
         } else {
-            return new Point2D(GameMap.BORDER_WIDTH / 2 + RANDOM
-            .nextDouble(GameMap.MAP_WIDTH - GameMap.BORDER_WIDTH / 2),
-                randomBetweenTwo(GameMap.BORDER_HEIGHT / 2,
-                GameMap.BORDER_HEIGHT / 2 + GameMap.MAP_HEIGHT));
+            return new Vector2D(MapDimensions.BORDER_WIDTH / 2 + random()
+            .nextDouble(MapDimensions.MAP_WIDTH - MapDimensions.BORDER_WIDTH / 2),
+                randomBetweenTwo(MapDimensions.BORDER_HEIGHT / 2,
+                MapDimensions.BORDER_HEIGHT / 2 + MapDimensions.MAP_HEIGHT));
         }
     }
 
+    /**
+     * The random stream of the spawns, taken from the world at each use since it changes at every new game.
+     * @return the random stream
+     */
+    private GameRandom random() {
+        return gameState.getWorld().orElseThrow().getRandom().get(RandomStreams.Stream.SPAWNS);
+    }
+
     /**
      * returns a random between two double given number.
      * @param first
@@ -143,20 +154,108 @@ public class EnemyCreation {
      * @return one of the two given parameter
      */
     private double randomBetweenTwo(final double first, final double second) {
-        return RANDOM.nextBoolean() ? first : second;
+        return random().nextBoolean() ? first : second;
+    }
+
+    /**
+     * Write the difficulty and the time left before the next spawn in a snapshot of the world.
+     * @param out where the state is written
+     */
+    void writeState(final ByteBuffer out) {
+        out.putInt(difficultyLevel).put((byte) (difficultyChanged ? 1 : 0))
+            .putInt(spawnPeriod).putInt(minTimeEnemySpawn).putInt(maxTimeEnemySpawn);
+        final TimerWheel.Timeout next = this.nextSpawn;
+        out.putLong(next == null || next.isCancelled() || next.isExpired()
+            ? -1 : gameState.getWorld().orElseThrow().getTimers().getRemaining(next));
+        out.putInt(entitiesMap.size());
+        entitiesMap.forEach((name, rate) -> {
+            WorldSnapshot.putString(out, name);
+            out.putDouble(rate);
+        });
+    }
+
+    /**
+     * Read the state written by {@link #writeState(ByteBuffer)}, without changing the creation of the enemies.
+     * @param in where the state is read from
+     * @return the state, to be given to {@link #restoreState(State)}
+     * @throws IllegalArgumentException if the state has a kind of mole that doesn't exist
+     */
+    static State readState(final ByteBuffer in) {
+        final int difficultyLevel = in.getInt();
+        final boolean difficultyChanged = in.get() != 0;
+        final int spawnPeriod = in.getInt();
+        final int minTime = in.getInt();
+        final int maxTime = in.getInt();
+        final long remaining = in.getLong();
+        final int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("The snapshot has " + count + " spawn rates");
+        }
+        final Map<String, Double> rates = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            rates.put(EnemyArchetype.get(WorldSnapshot.getString(in)).getName(), in.getDouble());
+        }
+        return new State(difficultyLevel, difficultyChanged, spawnPeriod, minTime, maxTime, remaining, rates);
+    }
+
+    /**
+     * Bring the creation of the enemies back to a state read from a snapshot, scheduling the next spawn again.
+     * @param state the state
+     */
+    void restoreState(final State state) {
+        if (this.nextSpawn != null) {
+            this.nextSpawn.cancel();
+        }
+        this.difficultyLevel = state.difficultyLevel;
+        this.difficultyChanged = state.difficultyChanged;
+        this.spawnPeriod = state.spawnPeriod;
+        this.minTimeEnemySpawn = state.minTime;
+        this.maxTimeEnemySpawn = state.maxTime;
+        this.entitiesMap.putAll(state.rates);
+        if (state.remaining >= 0) {
+            scheduleSpawn((int) state.remaining);
+        }
     }
 
     /**
      * stops the creation of enemies.
      */
     public void stopCreation() {
-        this.createEnemyTimer.cancel();
+        gameState.getWorld().orElseThrow().getEvents().unsubscribe(EventBus.Event.SCORE_CHANGED, scoreListener);
+        if (this.nextSpawn != null) {
+            this.nextSpawn.cancel();
+        }
     }
 
     /**
      * starts the creation of the enemies.
      */
     public void startCreation() {
+        gameState.getWorld().orElseThrow().getEvents().subscribe(EventBus.Event.SCORE_CHANGED, scoreListener);
         creationTimer();
     }
+
+    /**
+     * The state of the creation of the enemies read from a snapshot of the world.
+     */
+    static final class State {
+        private final int difficultyLevel;
+        private final boolean difficultyChanged;
+        private final int spawnPeriod;
+        private final int minTime;
+        private final int maxTime;
+        private final long remaining;
+        private final Map<String, Double> rates;
+
+        private State(final int difficultyLevel, final boolean difficultyChanged, final int spawnPeriod,
+            final int minTime, final int maxTime, final long remaining, final Map<String, Double> rates) {
+            this.difficultyLevel = difficultyLevel;
+            this.difficultyChanged = difficultyChanged;
+            this.spawnPeriod = spawnPeriod;
+            this.minTime = minTime;
+            this.maxTime = maxTime;
+            this.remaining = remaining;
+            this.rates = rates;
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package it.unibo.smol.model.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import it.unibo.smol.common.Vector2D;
+import it.unibo.smol.model.api.Entity;
+import it.unibo.smol.model.api.World;
+
+/**
+ * Pool of the moles of an archetype. A mole removed from the world goes back to the pool, and the next
+ * spawn of the archetype reuses it after resetting its components instead of building a new entity,
+ * so in a steady game spawning and killing moles doesn't allocate them.
+ * The pool is used by the thread that writes the world: the world releases the moles when it removes them,
+ * and the spawns acquire them between the ticks.
+ */
+public class EnemyPool {
+
+    private static final double PERCENT = 100;
+
+    private final String name;
+    private final BiFunction<Vector2D, World, EntityImpl> create;
+    private final Deque<EntityImpl> idle;
+    private long hits;
+    private long misses;
+    private int live;
+
+    /**
+     * Constructor for an empty pool.
+     * @param name the name of the archetype, used in the reports
+     * @param create builds a new mole of the archetype at a position of a world
+     */
+    public EnemyPool(final String name, final BiFunction<Vector2D, World, EntityImpl> create) {
+        this.name = name;
+        this.create = create;
+        this.idle = new ArrayDeque<>();
+    }
+
+    /**
+     * Getter for the name of the archetype of the moles in the pool.
+     * @return the name of the archetype
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Take a mole from the pool, or build a new one if the pool is empty.
+     * @param position the position where the mole spawns
+     * @param world the world of the mole
+     * @return a mole as it was just built
+     */
+    public Entity acquire(final Vector2D position, final World world) {
+        EntityImpl mole = idle.poll();
+        // the moles of another world can't be moved
+        while (mole != null && mole.getWorld().orElseThrow() != world) {
+            mole = idle.poll();
+        }
+        if (mole == null) {
+            misses++;
+            mole = create.apply(position, world);
+            mole.setPool(Optional.of(this));
+        } else {
+            hits++;
+            mole.respawn(position);
+        }
+        live++;
+        return mole;
+    }
+
+    /**
+     * Give a mole back to the pool, called once the mole is removed from its world.
+     * @param mole the mole to reuse
+     */
+    public void release(final EntityImpl mole) {
+        live--;
+        idle.push(mole);
+    }
+
+    /**
+     * Drop the idle moles, e.g. after the sizes and speeds of the moles are tuned.
+     */
+    public void clear() {
+        idle.clear();
+    }
+
+    /**
+     * Getter for the spawns that reused a mole.
+     * @return the number of hits
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Getter for the spawns that built a new mole.
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * The share of spawns that reused a mole.
+     * @return a value between 0 and 1, 0 before the first spawn
+     */
+    public double getHitRate() {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    /**
+     * Getter for the moles of the pool in the world.
+     * @return the number of moles in use
+     */
+    public int getLive() {
+        return this.live;
+    }
+
+    /**
+     * Getter for the moles waiting in the pool.
+     * @return the number of idle moles
+     */
+    public int getIdle() {
+        return this.idle.size();
+    }
+
+    /**
+     * The report of the usage of the pool.
+     * @return the name, the hit rate and the occupancy of the pool
+     */
+    @Override
+    public String toString() {
+        return String.format("%s moles: hit rate %.0f%% (%d reused, %d built), %d live, %d idle",
+            name, getHitRate() * PERCENT, hits, misses, live, getIdle());
+    }
+}
@@ -0,0 +1,327 @@
+package it.unibo.smol.model.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.smol.common.HitBox;
+import it.unibo.smol.common.hitbox.CircleHB;
+import it.unibo.smol.common.hitbox.RectangleHB;
+import it.unibo.smol.model.Type;
+import it.unibo.smol.model.api.Entity;
+
+/**
+ * Structure of arrays storage for the state the tick reads for every entity: position, movement,
+ * hitbox and rigidity are kept in parallel primitive arrays, one slot for each entity.
+ * The entities attached to the columns read and write their state in their slot instead of their own fields,
+ * so the collision pass runs over the arrays without going through the objects of the entities,
+ * and the {@link Entity} and {@link it.unibo.smol.model.api.PhysicsComponent} API stays the same.
+ * The columns are used only by the thread that writes the world.
+ */
+public final class EntityColumns {
+
+    /** The slot of an entity that keeps its state in its own fields. */
+    public static final int NO_SLOT = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte RECTANGLE = 0;
+    private static final byte CIRCLE = 1;
+    /** A hitbox of another shape, checked through the object. */
+    private static final byte OTHER = 2;
+
+    private Entity[] entities;
+    private HitBox[] hitBoxes;
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] deltaX;
+    private double[] deltaY;
+    private double[] centerX;
+    private double[] centerY;
+    /** The width of a rectangle, the radius of a circle. */
+    private double[] width;
+    private double[] height;
+    private boolean[] rigid;
+    private byte[] shape;
+    private Type[] type;
+    private int[] freeSlots;
+    private int free;
+    private int slots;
+
+    /**
+     * Constructor for empty columns.
+     */
+    public EntityColumns() {
+        this.entities = new Entity[INITIAL_CAPACITY];
+        this.hitBoxes = new HitBox[INITIAL_CAPACITY];
+        this.x = new double[INITIAL_CAPACITY];
+        this.y = new double[INITIAL_CAPACITY];
+        this.previousX = new double[INITIAL_CAPACITY];
+        this.previousY = new double[INITIAL_CAPACITY];
+        this.deltaX = new double[INITIAL_CAPACITY];
+        this.deltaY = new double[INITIAL_CAPACITY];
+        this.centerX = new double[INITIAL_CAPACITY];
+        this.centerY = new double[INITIAL_CAPACITY];
+        this.width = new double[INITIAL_CAPACITY];
+        this.height = new double[INITIAL_CAPACITY];
+        this.rigid = new boolean[INITIAL_CAPACITY];
+        this.shape = new byte[INITIAL_CAPACITY];
+        this.type = new Type[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Give a slot to an entity, the entity and its physics component copy their state in it.
+     * @param entity the entity
+     * @param hitBox the hitbox of the entity, its center is kept up to date by the physics component
+     * @return the slot of the entity
+     */
+    public int allocate(final Entity entity, final HitBox hitBox) {
+        final int slot;
+        if (free > 0) {
+            free--;
+            slot = freeSlots[free];
+        } else {
+            if (slots == entities.length) {
+                grow();
+            }
+            slot = slots++;
+        }
+        entities[slot] = entity;
+        hitBoxes[slot] = hitBox;
+        type[slot] = entity.getType();
+        if (hitBox instanceof RectangleHB) {
+            final RectangleHB rectangle = (RectangleHB) hitBox;
+            shape[slot] = RECTANGLE;
+            width[slot] = rectangle.getWidth();
+            height[slot] = rectangle.getHeight();
+        } else if (hitBox instanceof CircleHB) {
+            shape[slot] = CIRCLE;
+            width[slot] = ((CircleHB) hitBox).getRadius();
+        } else {
+            shape[slot] = OTHER;
+        }
+        centerX[slot] = hitBox.getCenterX();
+        centerY[slot] = hitBox.getCenterY();
+        return slot;
+    }
+
+    /**
+     * Free the slot of an entity, once the entity copied its state back in its fields.
+     * @param slot the slot to free
+     */
+    public void release(final int slot) {
+        entities[slot] = null;
+        hitBoxes[slot] = null;
+        type[slot] = null;
+        if (free == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, free * 2);
+        }
+        freeSlots[free] = slot;
+        free++;
+    }
+
+    private void grow() {
+        final int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        hitBoxes = Arrays.copyOf(hitBoxes, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        deltaX = Arrays.copyOf(deltaX, capacity);
+        deltaY = Arrays.copyOf(deltaY, capacity);
+        centerX = Arrays.copyOf(centerX, capacity);
+        centerY = Arrays.copyOf(centerY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        rigid = Arrays.copyOf(rigid, capacity);
+        shape = Arrays.copyOf(shape, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    /**
+     * Find the entities colliding with the one of a slot, like
+     * {@link it.unibo.smol.model.api.PhysicsComponent#findCollisions(List, List)} does through the objects.
+     * @param slot the slot of the entity
+     * @param others the slots of the entities to check, this entity is skipped if present
+     * @param size how many slots of the array to check
+     * @param collided where the entities colliding with this one are added, in the order they are found
+     */
+    public void findCollisions(final int slot, final int[] others, final int size, final List<Entity> collided) {
+        if (!rigid[slot]) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            final int other = others[i];
+            if (other != slot && rigid[other] && collide(slot, other)) {
+                collided.add(entities[other]);
+            }
+        }
+    }
+
+    private boolean collide(final int first, final int second) {
+        if (shape[first] == RECTANGLE && shape[second] == RECTANGLE) {
+            return RectangleHB.overlaps(centerX[first], centerY[first], width[first], height[first],
+                centerX[second], centerY[second], width[second], height[second]);
+        } else if (shape[first] == CIRCLE && shape[second] == CIRCLE) {
+            return CircleHB.overlapsCircle(centerX[first], centerY[first], width[first],
+                centerX[second], centerY[second], width[second]);
+        } else if (shape[first] == CIRCLE && shape[second] == RECTANGLE) {
+            return CircleHB.overlapsRectangle(centerX[first], centerY[first], width[first],
+                centerX[second], centerY[second], width[second], height[second]);
+        } else if (shape[first] == RECTANGLE && shape[second] == CIRCLE) {
+            return CircleHB.overlapsRectangle(centerX[second], centerY[second], width[second],
+                centerX[first], centerY[first], width[first], height[first]);
+        }
+        return hitBoxes[first].isColliding(hitBoxes[second]);
+    }
+
+    /**
+     * Getter for the entity of a slot.
+     * @param slot the slot
+     * @return the entity
+     */
+    public Entity getEntity(final int slot) {
+        return entities[slot];
+    }
+
+    /**
+     * Getter for the type of the entity of a slot.
+     * @param slot the slot
+     * @return the type
+     */
+    public Type getType(final int slot) {
+        return type[slot];
+    }
+
+    /**
+     * Getter for the x of an entity.
+     * @param slot the slot of the entity
+     * @return the current x
+     */
+    public double getX(final int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Setter for the x of an entity.
+     * @param slot the slot of the entity
+     * @param value the current x
+     */
+    public void setX(final int slot, final double value) {
+        x[slot] = value;
+    }
+
+    /**
+     * Getter for the y of an entity.
+     * @param slot the slot of the entity
+     * @return the current y
+     */
+    public double getY(final int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Setter for the y of an entity.
+     * @param slot the slot of the entity
+     * @param value the current y
+     */
+    public void setY(final int slot, final double value) {
+        y[slot] = value;
+    }
+
+    /**
+     * Getter for the x an entity had at the end of the previous tick.
+     * @param slot the slot of the entity
+     * @return the previous x
+     */
+    public double getPreviousX(final int slot) {
+        return previousX[slot];
+    }
+
+    /**
+     * Getter for the y an entity had at the end of the previous tick.
+     * @param slot the slot of the entity
+     * @return the previous y
+     */
+    public double getPreviousY(final int slot) {
+        return previousY[slot];
+    }
+
+    /**
+     * Setter for the position an entity had at the end of the previous tick.
+     * @param slot the slot of the entity
+     * @param fromX the previous x
+     * @param fromY the previous y
+     */
+    public void setPrevious(final int slot, final double fromX, final double fromY) {
+        previousX[slot] = fromX;
+        previousY[slot] = fromY;
+    }
+
+    /**
+     * Getter for the movement of an entity along x.
+     * @param slot the slot of the entity
+     * @return the movement
+     */
+    public double getDeltaX(final int slot) {
+        return deltaX[slot];
+    }
+
+    /**
+     * Setter for the movement of an entity along x.
+     * @param slot the slot of the entity
+     * @param value the movement
+     */
+    public void setDeltaX(final int slot, final double value) {
+        deltaX[slot] = value;
+    }
+
+    /**
+     * Getter for the movement of an entity along y.
+     * @param slot the slot of the entity
+     * @return the movement
+     */
+    public double getDeltaY(final int slot) {
+        return deltaY[slot];
+    }
+
+    /**
+     * Setter for the movement of an entity along y.
+     * @param slot the slot of the entity
+     * @param value the movement
+     */
+    public void setDeltaY(final int slot, final double value) {
+        deltaY[slot] = value;
+    }
+
+    /**
+     * Setter for the center of the hitbox of an entity.
+     * @param slot the slot of the entity
+     * @param toX the x of the center
+     * @param toY the y of the center
+     */
+    public void setCenter(final int slot, final double toX, final double toY) {
+        centerX[slot] = toX;
+        centerY[slot] = toY;
+    }
+
+    /**
+     * Getter for the rigidity of the hitbox of an entity.
+     * @param slot the slot of the entity
+     * @return {@code True} if the hitbox can collide with other entities
+     */
+    public boolean isRigid(final int slot) {
+        return rigid[slot];
+    }
+
+    /**
+     * Setter for the rigidity of the hitbox of an entity.
+     * @param slot the slot of the entity
+     * @param value {@code True} if the hitbox can collide with other entities
+     */
+    public void setRigid(final int slot, final boolean value) {
+        rigid[slot] = value;
+    }
+}
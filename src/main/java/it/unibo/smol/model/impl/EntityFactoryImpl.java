@@ -1,9 +1,16 @@
 package it.unibo.smol.model.impl;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
 import it.unibo.smol.common.HitBox;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.common.hitbox.CircleHB;
 import it.unibo.smol.common.hitbox.RectangleHB;
 import it.unibo.smol.controller.api.EnemyInputFactory;
@@ -21,26 +28,30 @@ import it.unibo.smol.model.impl.physicscomponent.LifePlantsPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.PlayerPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.EmptyPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.WeaponPhysicsComponent;
-import it.unibo.smol.view.impl.graphiccomponent.AngryEnemyGraphicComponent;
-import it.unibo.smol.view.impl.graphiccomponent.BasicEnemyGraphicComponent;
-import it.unibo.smol.view.impl.graphiccomponent.BombEnemyGraphicComponent;
-import it.unibo.smol.view.impl.graphiccomponent.HelmetEnemyGraphicComponent;
+import it.unibo.smol.view.impl.graphiccomponent.EnemyGraphicComponent;
 import it.unibo.smol.view.impl.graphiccomponent.LifePlantsGraphicComponent;
 import it.unibo.smol.view.impl.graphiccomponent.PlayerGraphicComponent;
 import it.unibo.smol.view.impl.graphiccomponent.WeaponGraphicComponent;
-import javafx.geometry.Point2D;
 /**
  * Implemention of the {@link EntityFactory} interface.
+ * The enemies are taken from a pool for each {@link EnemyArchetype}, so a dead enemy is reused by a later spawn.
  */
 public class EntityFactoryImpl implements EntityFactory {
 
     private final EnemyInputFactory enemyFactory;
+    private final Map<EnemyArchetype, EnemyPool> enemyPools;
 
     /**
      * constructor that inizialize the enemy input factory.
      */
     public EntityFactoryImpl() {
         this.enemyFactory = new EnemyInputFactoryImpl();
+        this.enemyPools = new LinkedHashMap<>();
+        EnemyArchetype.all().forEach(archetype -> this.enemyPools.put(archetype, newPool(archetype)));
+    }
+
+    private EnemyPool newPool(final EnemyArchetype archetype) {
+        return new EnemyPool(archetype.getName(), (initialPosition, w) -> newEnemy(archetype, initialPosition, w));
     }
 
     /**
@@ -53,7 +64,7 @@ public class EntityFactoryImpl implements EntityFactory {
         Optional.empty(),
         Optional.of(new PlayerGraphicComponent(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT)),
         Optional.of(new PlayerPhysicsComponent(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT,
-            new Point2D(x, y)))),
+            new Vector2D(x, y)))),
         x, y, Optional.of(w));
     }
 
@@ -67,7 +78,7 @@ public class EntityFactoryImpl implements EntityFactory {
         Optional.of(new HealthComponent(Constant.HEALTH_HP)),
         Optional.of(new LifePlantsGraphicComponent(Constant.HEALTH_WIDTH, Constant.HEALTH_HEIGHT)),
         Optional.of(new LifePlantsPhysicsComponent(new RectangleHB(Constant.HEALTH_WIDTH, Constant.HEALTH_HEIGHT,
-            new Point2D(x, y)))),
+            new Vector2D(x, y)))),
         x, y, Optional.of(w));
     }
 
@@ -80,7 +91,7 @@ public class EntityFactoryImpl implements EntityFactory {
         Optional.of(new WeaponInputComponent(w.getMouseInputs())),
         Optional.empty(),
         Optional.of(new WeaponGraphicComponent(2 * Constant.WEAPON_RADIUS, 2 * Constant.WEAPON_RADIUS)),
-        Optional.of(new WeaponPhysicsComponent(new CircleHB(new Point2D(x, y), Constant.WEAPON_RADIUS))),
+        Optional.of(new WeaponPhysicsComponent(new CircleHB(new Vector2D(x, y), Constant.WEAPON_RADIUS))),
         x, y, Optional.of(w));
     }
 
@@ -88,14 +99,21 @@ public class EntityFactoryImpl implements EntityFactory {
      * {@inheritDoc}
      */
     @Override
-    public Entity createBasicEnemy(final Point2D initialPosition, final World w) {
-        return new EntityImpl(Type.ENEMY, 
+    public Entity createEnemy(final EnemyArchetype archetype, final Vector2D initialPosition, final World w) {
+        return this.enemyPools.computeIfAbsent(archetype, this::newPool).acquire(initialPosition, w);
+    }
+
+    private EntityImpl newEnemy(final EnemyArchetype archetype, final Vector2D initialPosition, final World w) {
+        final HitBox hitBox = new RectangleHB(enemyWidth(), enemyHeight(), initialPosition);
+        final double speed = archetype.getSpeed() * TuningProfile.get(Tunable.ENEMY_SPEED_SCALE);
+        return new EntityImpl(Type.ENEMY,
         Optional.of(new EnemyInputComponent(Optional.of(
-            this.enemyFactory.createBasicEnemyInput(Optional.of(w), initialPosition)))),
-        Optional.of(new HealthComponent(Constant.ENEMY_HP)), 
-        Optional.of(new BasicEnemyGraphicComponent(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT)), 
-        Optional.of(new EnemyPhysicsComponent(new RectangleHB(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT,
-        initialPosition), Constant.BASIC_ENEMY_SPEED)),
+            this.enemyFactory.createEnemyInput(archetype, Optional.of(w), initialPosition)))),
+        Optional.of(new HealthComponent(archetype.getHealth())),
+        Optional.of(new EnemyGraphicComponent(enemyWidth(), enemyHeight(), archetype)),
+        Optional.of(archetype.getBehaviour() == EnemyArchetype.Behaviour.BOMB
+            ? new BombEnemyPhysicsComponent(hitBox, speed)
+            : new EnemyPhysicsComponent(hitBox, speed)),
         initialPosition.getX(), initialPosition.getY(), Optional.of(w));
     }
 
@@ -103,57 +121,45 @@ public class EntityFactoryImpl implements EntityFactory {
      * {@inheritDoc}
      */
     @Override
-    public Entity createHelmetEnemy(final Point2D initialPosition, final World w) {
-        return new EntityImpl(Type.ENEMY,
-        Optional.of(new EnemyInputComponent(Optional.of(
-            this.enemyFactory.createHelmetEnemyInput(Optional.of(w), initialPosition)))),
-        Optional.of(new HealthComponent(Constant.ENEMY_HELMET_HP)),
-        Optional.of(new HelmetEnemyGraphicComponent(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT)),
-        Optional.of(new EnemyPhysicsComponent(new RectangleHB(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT,
-        initialPosition), Constant.HELMET_ENEMY_SPEED)),
-        initialPosition.getX(), initialPosition.getY(), Optional.of(w));
+    public Entity createWall(final HitBox hitbox, final World w) {
+        return new EntityImpl(Type.WALL,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.of(new EmptyPhysicsComponent(hitbox)),
+        hitbox.getCenterX(), hitbox.getCenterY(), Optional.of(w));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Entity createAngryEnemy(final Point2D initalPosition, final World w) {
-        return new EntityImpl(Type.ENEMY,
-        Optional.of(new EnemyInputComponent(Optional.of(
-            this.enemyFactory.createAngryEnemyInput(Optional.of(w), initalPosition)))),
-        Optional.of(new HealthComponent(Constant.ENEMY_HP)),
-        Optional.of(new AngryEnemyGraphicComponent(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT)),
-        Optional.of(new EnemyPhysicsComponent(new RectangleHB(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT,
-        initalPosition), Constant.ANGRY_ENEMY_SPEED)),
-        initalPosition.getX(), initalPosition.getY(), Optional.of(w));
+    public void clearPools() {
+        enemyPools.values().forEach(EnemyPool::clear);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Entity createBombEnemy(final Point2D initialPosition, final World w) {
-        return new EntityImpl(Type.ENEMY, 
-        Optional.of(new EnemyInputComponent(Optional.of(
-            this.enemyFactory.createBombEnemyInput(Optional.of(w), initialPosition)))),
-        Optional.of(new HealthComponent(Constant.ENEMY_HP)), 
-        Optional.of(new BombEnemyGraphicComponent(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT)), 
-        Optional.of(new BombEnemyPhysicsComponent(new RectangleHB(Constant.ENEMY_WIDTH, Constant.ENEMY_HEIGHT,
-        initialPosition), Constant.BOMB_ENEMY_SPEED)),
-        initialPosition.getX(), initialPosition.getY(), Optional.of(w));
+    public String getPoolStatistics() {
+        return enemyPools.values().stream().map(EnemyPool::toString).collect(Collectors.joining(System.lineSeparator()));
     }
 
     /**
-     * {@inheritDoc}
+     * gets the pool that the enemies of a kind are taken from.
+     * @param archetype the kind of enemy
+     * @return the pool of the enemies of that kind
      */
-    @Override
-    public Entity createWall(final HitBox hitbox, final World w) {
-        return new EntityImpl(Type.WALL,
-        Optional.empty(),
-        Optional.empty(),
-        Optional.empty(),
-        Optional.of(new EmptyPhysicsComponent(hitbox)),
-        hitbox.getCenter().getX(), hitbox.getCenter().getY(), Optional.of(w));
+    public EnemyPool getEnemyPool(final EnemyArchetype archetype) {
+        return enemyPools.get(archetype);
+    }
+
+    private static double enemyWidth() {
+        return TuningProfile.get(Tunable.ENEMY_WIDTH);
+    }
+
+    private static double enemyHeight() {
+        return TuningProfile.get(Tunable.ENEMY_HEIGHT);
     }
 }
@@ -1,7 +1,9 @@
 package it.unibo.smol.model.impl;
 
-import javafx.geometry.Point2D;
 import java.util.Optional;
+import it.unibo.smol.common.SlotMap;
+import it.unibo.smol.common.Vector2D;
+import it.unibo.smol.controller.api.EnemyInput;
 import it.unibo.smol.controller.api.InputComponent;
 import it.unibo.smol.model.Type;
 import it.unibo.smol.model.api.Entity;
@@ -18,9 +20,18 @@ public class EntityImpl implements Entity {
     private final Optional<HealthComponent> healthComp;
     private final Optional<GraphicComponent> graphicComp;
     private final PhysicsComponent physicsComp;
+    /** Read for every pair of entities of a tick, so it isn't wrapped again on every call. */
+    private final Optional<PhysicsComponent> optionalPhysics;
     private final World world;
     private double currentX;
     private double currentY;
+    private double previousX;
+    private double previousY;
+    private long handle;
+    /** Where the position is kept while the entity is attached, {@code null} otherwise. */
+    private EntityColumns columns;
+    private int slot;
+    private Optional<EnemyPool> pool;
 
     /**
      * Constructor for creating entities utilizing the entity factory.
@@ -42,11 +53,18 @@ public class EntityImpl implements Entity {
         this.healthComp = healthComp;
         this.graphicComp = graphicComp;
         this.physicsComp = physicsComp.orElseThrow();
+        this.optionalPhysics = Optional.of(this.physicsComp);
         this.currentX = currentX;
         this.currentY = currentY;
+        this.previousX = currentX;
+        this.previousY = currentY;
+        this.handle = SlotMap.NO_HANDLE;
+        this.slot = EntityColumns.NO_SLOT;
+        this.pool = Optional.empty();
         this.world = w.orElseThrow();
         physicsComp.orElseThrow().setEntity(Optional.of(this));
         graphicComp.ifPresent(x -> x.setEntity(Optional.of(this)));
+        healthComp.ifPresent(x -> x.setEntity(Optional.of(this)));
         inputComp.ifPresent(x -> x.getEnemyInput().ifPresent(a -> a.setEntity(Optional.of(this))));
     }
 
@@ -55,7 +73,7 @@ public class EntityImpl implements Entity {
      */
     @Override
     public double getCurrentX() {
-        return currentX;
+        return columns == null ? currentX : columns.getX(slot);
     }
 
     /**
@@ -63,15 +81,135 @@ public class EntityImpl implements Entity {
      */
     @Override
     public double getCurrentY() {
-        return currentY;
+        return columns == null ? currentY : columns.getY(slot);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Point2D getCurrentPosition() {
-        return new Point2D(currentX, currentY);
+    public double getPreviousX() {
+        return columns == null ? previousX : columns.getPreviousX(slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousY() {
+        return columns == null ? previousY : columns.getPreviousY(slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storePreviousPosition() {
+        if (columns == null) {
+            previousX = currentX;
+            previousY = currentY;
+        } else {
+            columns.setPrevious(slot, columns.getX(slot), columns.getY(slot));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setColumns(final Optional<EntityColumns> newColumns) {
+        if (columns != null) {
+            currentX = columns.getX(slot);
+            currentY = columns.getY(slot);
+            previousX = columns.getPreviousX(slot);
+            previousY = columns.getPreviousY(slot);
+            physicsComp.setColumns(Optional.empty(), EntityColumns.NO_SLOT);
+            columns.release(slot);
+            columns = null;
+            slot = EntityColumns.NO_SLOT;
+        }
+        newColumns.ifPresent(c -> {
+            slot = c.allocate(this, physicsComp.getHitBox().orElseThrow());
+            c.setX(slot, currentX);
+            c.setY(slot, currentY);
+            c.setPrevious(slot, previousX, previousY);
+            columns = c;
+            physicsComp.setColumns(newColumns, slot);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Setter for the pool the entity goes back to when it is removed from the world.
+     * @param pool the pool of the entity
+     */
+    public void setPool(final Optional<EnemyPool> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Getter for the pool the entity goes back to when it is removed from the world.
+     * @return the pool of the entity, empty if it isn't pooled
+     */
+    public Optional<EnemyPool> getPool() {
+        return this.pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRemove() {
+        this.inputComp.flatMap(InputComponent::getEnemyInput).ifPresent(EnemyInput::leave);
+        this.pool.ifPresent(p -> p.release(this));
+    }
+
+    /**
+     * Bring a pooled entity back to the state it had when it was built, at a new position.
+     * @param position the position of the entity
+     */
+    public void respawn(final Vector2D position) {
+        setX(position.getX());
+        setY(position.getY());
+        storePreviousPosition();
+        physicsComp.setX(0);
+        physicsComp.setY(0);
+        physicsComp.setRigid(true);
+        physicsComp.updateHitbox(position.getX(), position.getY());
+        healthComp.ifPresent(HealthComponent::reset);
+        graphicComp.ifPresent(GraphicComponent::reset);
+        inputComp.flatMap(InputComponent::getEnemyInput).ifPresent(input -> input.respawn(position));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHandle() {
+        return this.handle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHandle(final long handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector2D getCurrentPosition() {
+        return new Vector2D(getCurrentX(), getCurrentY());
     }
 
     /**
@@ -87,7 +225,11 @@ public class EntityImpl implements Entity {
      */
     @Override
     public void setX(final double x) {
-        currentX = x;
+        if (columns == null) {
+            currentX = x;
+        } else {
+            columns.setX(slot, x);
+        }
     }
 
     /**
@@ -95,7 +237,11 @@ public class EntityImpl implements Entity {
      */
     @Override
     public void setY(final double y) {
-        currentY = y;
+        if (columns == null) {
+            currentY = y;
+        } else {
+            columns.setY(slot, y);
+        }
     }
 
     /**
@@ -119,7 +265,7 @@ public class EntityImpl implements Entity {
      */
     @Override
     public Optional<PhysicsComponent> getPhysicsComp() {
-        return Optional.of(physicsComp);
+        return this.optionalPhysics;
     }
 
     /**
@@ -147,10 +293,10 @@ public class EntityImpl implements Entity {
             this.setX(physicsComp.getX());
             this.setY(physicsComp.getY());
         } else {
-            this.setX(this.currentX + physicsComp.getX());
-            this.setY(this.currentY + physicsComp.getY());
+            this.setX(getCurrentX() + physicsComp.getX());
+            this.setY(getCurrentY() + physicsComp.getY());
         }
-        physicsComp.updateHitbox(currentX, currentY);
+        physicsComp.updateHitbox(getCurrentX(), getCurrentY());
     }
 
     /**
@@ -186,4 +332,5 @@ public class EntityImpl implements Entity {
         physicsComp.checkCollision();
         checkHealth();
     }
+
 }
@@ -0,0 +1,199 @@
+package it.unibo.smol.model.impl;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import it.unibo.smol.model.api.Entity;
+
+/**
+ * Bus of the events of a world. The events raised during a tick are queued, each kind in its own ring buffer,
+ * and dispatched in a batch when the tick ends, so the listeners follow the world as it changes instead of
+ * scanning it again at every frame.
+ * An event is an entity and a value, kept in parallel arrays so raising and dispatching events doesn't allocate.
+ * The events are raised and dispatched by the thread that writes the world, the listeners can subscribe from any thread.
+ */
+public final class EventBus {
+
+    private static final int INITIAL_CAPACITY = 32;
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    /**
+     * The kinds of events, dispatched in this order at the end of a tick.
+     */
+    public enum Event {
+        /**
+         * An entity entered the world, the value is its health.
+         */
+        ENTITY_SPAWNED,
+        /**
+         * An entity lost health, the value is the health lost.
+         */
+        DAMAGE_APPLIED,
+        /**
+         * An entity left the world, the value is the health it had left.
+         */
+        ENTITY_DIED,
+        /**
+         * A plant left the world, the value is the number of plants left.
+         */
+        PLANT_DESTROYED,
+        /**
+         * The score changed, the entity is {@code null} and the value is the new score.
+         */
+        SCORE_CHANGED
+    }
+
+    /**
+     * Listener of a kind of events.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called for each event of the kind, in the order they were raised.
+         * @param entity the entity of the event
+         * @param value the value of the event
+         */
+        void onEvent(Entity entity, int value);
+    }
+
+    private final Map<Event, Ring> rings;
+    private final Map<Event, Listener[]> listeners;
+
+    /**
+     * The events of a kind waiting for the dispatch.
+     */
+    private static final class Ring {
+        private Entity[] entities = new Entity[INITIAL_CAPACITY];
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int head;
+        private int size;
+
+        private void add(final Entity entity, final int value) {
+            if (size == entities.length) {
+                grow();
+            }
+            final int tail = (head + size) & (entities.length - 1);
+            entities[tail] = entity;
+            values[tail] = value;
+            size++;
+        }
+
+        private void grow() {
+            final int capacity = entities.length * 2;
+            final Entity[] movedEntities = new Entity[capacity];
+            final int[] movedValues = new int[capacity];
+            for (int i = 0; i < size; i++) {
+                final int from = (head + i) & (entities.length - 1);
+                movedEntities[i] = entities[from];
+                movedValues[i] = values[from];
+            }
+            entities = movedEntities;
+            values = movedValues;
+            head = 0;
+        }
+
+        private void clear() {
+            Arrays.fill(entities, null);
+            head = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * Constructor for a bus with no events and no listeners.
+     */
+    public EventBus() {
+        this.rings = new EnumMap<>(Event.class);
+        this.listeners = new EnumMap<>(Event.class);
+        for (final Event event : Event.values()) {
+            this.rings.put(event, new Ring());
+            this.listeners.put(event, NO_LISTENERS);
+        }
+    }
+
+    /**
+     * Start listening to a kind of events, from the next dispatch.
+     * @param event the kind of events
+     * @param listener the listener
+     */
+    public synchronized void subscribe(final Event event, final Listener listener) {
+        final Listener[] current = listeners.get(event);
+        final Listener[] added = Arrays.copyOf(current, current.length + 1);
+        added[current.length] = listener;
+        listeners.put(event, added);
+    }
+
+    /**
+     * Stop listening to a kind of events.
+     * @param event the kind of events
+     * @param listener the listener, nothing happens if it isn't subscribed
+     */
+    public synchronized void unsubscribe(final Event event, final Listener listener) {
+        final Listener[] current = listeners.get(event);
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                final Listener[] removed = new Listener[current.length - 1];
+                System.arraycopy(current, 0, removed, 0, i);
+                System.arraycopy(current, i + 1, removed, i, current.length - i - 1);
+                listeners.put(event, removed);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queue an event until the next dispatch.
+     * @param event the kind of the event
+     * @param entity the entity of the event
+     * @param value the value of the event
+     */
+    public void publish(final Event event, final Entity entity, final int value) {
+        rings.get(event).add(entity, value);
+    }
+
+    /**
+     * Dispatch the events queued so far, kind by kind, to the listeners of their kind.
+     * The events raised by the listeners are queued for the next dispatch.
+     */
+    public void dispatch() {
+        for (final Event event : Event.values()) {
+            final Ring ring = rings.get(event);
+            final int count = ring.size;
+            if (count == 0) {
+                continue;
+            }
+            final Listener[] current;
+            synchronized (this) {
+                current = listeners.get(event);
+            }
+            for (int i = 0; i < count; i++) {
+                final int index = ring.head;
+                final Entity entity = ring.entities[index];
+                final int value = ring.values[index];
+                ring.entities[index] = null;
+                ring.head = (index + 1) & (ring.entities.length - 1);
+                ring.size--;
+                for (final Listener listener : current) {
+                    listener.onEvent(entity, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the events that weren't dispatched yet.
+     */
+    public void clear() {
+        rings.values().forEach(Ring::clear);
+    }
+
+    /**
+     * Getter for the events waiting for the dispatch.
+     * @param event the kind of events
+     * @return the number of events of the kind in the queue
+     */
+    public int getPending(final Event event) {
+        return rings.get(event).size;
+    }
+}
@@ -1,5 +1,9 @@
 package it.unibo.smol.model.impl;
 
+import java.util.Optional;
+
+import it.unibo.smol.model.api.Entity;
+
 /**
  * The class rappresenting the health component of the {@link Entity}.
  * This component is Optional and could be not present if the {@link Entity} doesn't need it
@@ -8,6 +12,7 @@ public class HealthComponent {
 
     private int currentHealth;
     private final int maxHealth;
+    private Entity entity;
 
     /**
      * Constructor for the Health Component.
@@ -23,12 +28,25 @@ public class HealthComponent {
      * @param healthChange : the amount of health to either add or subtract
      */
     public void setHealth(final int healthChange) {
+        final int oldHealth = currentHealth;
         final int newHealth = currentHealth + healthChange;
         if (newHealth > maxHealth) {
             currentHealth = maxHealth;
         } else {
             currentHealth = newHealth;
         }
+        if (currentHealth < oldHealth && entity != null) {
+            entity.getWorld().orElseThrow().getEvents()
+                .publish(EventBus.Event.DAMAGE_APPLIED, entity, oldHealth - currentHealth);
+        }
+    }
+
+    /**
+     * Set the entity associated with this component, whose world is told about the damage.
+     * @param entity the entity that use this component
+     */
+    public void setEntity(final Optional<Entity> entity) {
+        this.entity = entity.orElseThrow();
     }
 
     /**
@@ -39,6 +57,22 @@ public class HealthComponent {
         return currentHealth;
     }
 
+    /**
+     * Restore the whole health, when the entity is reused.
+     */
+    public void reset() {
+        currentHealth = maxHealth;
+    }
+
+    /**
+     * Set the health read from a snapshot of the world, the world isn't told about it
+     * since the entity enters the world with this health.
+     * @param health the health, at most the max health
+     */
+    public void restore(final int health) {
+        currentHealth = Math.min(health, maxHealth);
+    }
+
     /**
      * Test if the Entity is dead.
      * @return {@code True} if the entity have more of 0 health; {@code False} otherwise
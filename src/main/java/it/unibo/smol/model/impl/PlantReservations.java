@@ -0,0 +1,248 @@
+package it.unibo.smol.model.impl;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+import it.unibo.smol.model.api.Entity;
+
+/**
+ * Registry of the plants the moles go to eat, with the claim of each plant.
+ * Every plant of the world has a slot, and its claim is taken and given back with a compare and set,
+ * so a plant is claimed by at most one mole without locks and without copying the registry.
+ * The plants are added and removed by the thread that writes the world, when they enter and leave it,
+ * while the claims can be taken and given back from any thread.
+ */
+public final class PlantReservations {
+
+    private static final int FREE = 0;
+    private static final int CLAIMED = 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Slots slots;
+    /** The slots used so far, the free ones among them are empty. */
+    private volatile int used;
+    private int[] freeSlots;
+    private int free;
+    private volatile int size;
+
+    /**
+     * The arrays of the slots, replaced by bigger ones when they are full.
+     */
+    private static final class Slots {
+        private final AtomicReferenceArray<Entity> plants;
+        private final AtomicIntegerArray claims;
+
+        Slots(final int capacity) {
+            this.plants = new AtomicReferenceArray<>(capacity);
+            this.claims = new AtomicIntegerArray(capacity);
+        }
+    }
+
+    /**
+     * Constructor for an empty registry.
+     */
+    public PlantReservations() {
+        this.slots = new Slots(INITIAL_CAPACITY);
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Give a free slot to a plant that entered the world, called by the writer.
+     * @param plant the plant
+     */
+    public void add(final Entity plant) {
+        final int slot;
+        if (free > 0) {
+            free--;
+            slot = freeSlots[free];
+        } else {
+            if (used == slots.plants.length()) {
+                grow();
+            }
+            slot = used;
+        }
+        final Slots current = this.slots;
+        current.claims.set(slot, FREE);
+        current.plants.set(slot, plant);
+        if (slot == used) {
+            used = slot + 1;
+        }
+        size++;
+    }
+
+    private void grow() {
+        // the plants are added at the start of the game, before the moles claim them
+        final Slots current = this.slots;
+        final Slots bigger = new Slots(current.plants.length() * 2);
+        for (int i = 0; i < used; i++) {
+            bigger.claims.set(i, current.claims.get(i));
+            bigger.plants.set(i, current.plants.get(i));
+        }
+        this.slots = bigger;
+        this.freeSlots = new int[bigger.plants.length()];
+    }
+
+    /**
+     * Free the slot of a plant that left the world, with its claim, called by the writer.
+     * @param plant the plant
+     */
+    public void remove(final Entity plant) {
+        final int slot = slotOf(plant);
+        if (slot < 0) {
+            return;
+        }
+        final Slots current = this.slots;
+        current.plants.set(slot, null);
+        current.claims.set(slot, FREE);
+        freeSlots[free] = slot;
+        free++;
+        size--;
+        if (size == 0) {
+            // the plants added next take the slots in their order again
+            used = 0;
+            free = 0;
+        }
+    }
+
+    /**
+     * Forget all the plants, called by the writer.
+     */
+    public void clear() {
+        this.slots = new Slots(slots.plants.length());
+        this.used = 0;
+        this.free = 0;
+        this.size = 0;
+    }
+
+    private int slotOf(final Entity plant) {
+        final Slots current = this.slots;
+        final int bound = used;
+        for (int i = 0; i < bound; i++) {
+            if (current.plants.get(i) == plant) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Claim a plant, if it is in the registry and no one claimed it.
+     * @param plant the plant
+     * @return {@code True} if the plant is now claimed by the caller
+     */
+    public boolean claim(final Entity plant) {
+        final int slot = slotOf(plant);
+        return slot >= 0 && claim(this.slots, slot, plant);
+    }
+
+    private static boolean claim(final Slots current, final int slot, final Entity plant) {
+        if (!current.claims.compareAndSet(slot, FREE, CLAIMED)) {
+            return false;
+        }
+        if (current.plants.get(slot) != plant) {
+            // the plant left and its slot was given to another one meanwhile
+            current.claims.compareAndSet(slot, CLAIMED, FREE);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Give back the claim of a plant.
+     * @param plant the plant claimed by the caller
+     */
+    public void release(final Entity plant) {
+        final int slot = slotOf(plant);
+        if (slot >= 0) {
+            this.slots.claims.compareAndSet(slot, CLAIMED, FREE);
+        }
+    }
+
+    /**
+     * Tells if a plant is claimed.
+     * @param plant the plant
+     * @return {@code True} if the plant is in the registry and claimed
+     */
+    public boolean isClaimed(final Entity plant) {
+        final int slot = slotOf(plant);
+        return slot >= 0 && this.slots.claims.get(slot) == CLAIMED;
+    }
+
+    /**
+     * Claim one of the free plants, each with the same chance, in a single pass over the slots.
+     * @param random the random stream that chooses the plant
+     * @return the plant now claimed by the caller, empty if every plant is claimed
+     */
+    public Optional<Entity> claimFree(final RandomGenerator random) {
+        while (true) {
+            final Slots current = this.slots;
+            final int bound = used;
+            int chosen = -1;
+            int seen = 0;
+            for (int i = 0; i < bound; i++) {
+                if (current.plants.get(i) != null && current.claims.get(i) == FREE) {
+                    seen++;
+                    if (random.nextInt(seen) == 0) {
+                        chosen = i;
+                    }
+                }
+            }
+            if (chosen < 0) {
+                return Optional.empty();
+            }
+            final Entity plant = current.plants.get(chosen);
+            if (plant != null && claim(current, chosen, plant)) {
+                return Optional.of(plant);
+            }
+            // another mole took the plant first, choose again
+        }
+    }
+
+    /**
+     * Choose one of the plants without claiming it, each with the same chance.
+     * @param random the random stream that chooses the plant
+     * @return the plant, empty if there are no plants
+     */
+    public Optional<Entity> pickAny(final RandomGenerator random) {
+        final Slots current = this.slots;
+        final int bound = used;
+        Entity chosen = null;
+        int seen = 0;
+        for (int i = 0; i < bound; i++) {
+            final Entity plant = current.plants.get(i);
+            if (plant != null) {
+                seen++;
+                if (random.nextInt(seen) == 0) {
+                    chosen = plant;
+                }
+            }
+        }
+        return Optional.ofNullable(chosen);
+    }
+
+    /**
+     * Getter for the number of plants in the registry.
+     * @return the number of plants
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Counts the plants no one claimed.
+     * @return the number of free plants
+     */
+    public int getFree() {
+        final Slots current = this.slots;
+        final int bound = used;
+        int count = 0;
+        for (int i = 0; i < bound; i++) {
+            if (current.plants.get(i) != null && current.claims.get(i) == FREE) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -1,22 +1,26 @@
 package it.unibo.smol.model.impl;
 
 import java.util.Optional;
-import java.util.Random;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.GameRandom;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.common.hitbox.RectangleHB;
 import it.unibo.smol.controller.api.GameState;
-import it.unibo.smol.view.GameMap;
-import javafx.geometry.Point2D;
 
 /**
  * creates the plants in a semi-random way.
  */
 public class PlantsCreation {
 
+    /** Attempts to place a plant in its part of the map before looking in the whole map. */
+    private static final int MAX_ATTEMPTS = 100;
+
     private boolean validPosition;
     private final GameState gs;
-    private final Random rand;
+    private final GameRandom rand;
 
     /**
      * constructor that starts the creation of plants and gets the gamestate.
@@ -25,18 +29,21 @@ public class PlantsCreation {
     public PlantsCreation(final Optional<GameState> gs) {
         this.gs = gs.orElseThrow();
         this.validPosition = true;
-        this.rand = new Random();
+        this.rand = this.gs.getWorld().orElseThrow().getRandom().get(RandomStreams.Stream.PLANTS);
         createPlants();
     }
 
     private void createPlants() {
         for (int i = 0; i < Constant.NUM_PLANTS; i++) {
-            Point2D plantPosition;
+            Vector2D plantPosition;
+            int attempts = 0;
             do {
                 this.validPosition = true;
-                plantPosition = findPosition(i);
+                // the other plants and the player can fill the whole part of the map of a plant
+                plantPosition = findPosition(attempts < MAX_ATTEMPTS ? i : 0);
+                attempts++;
                 final var temp = new RectangleHB(Constant.HEALTH_WIDTH, Constant.HEALTH_HEIGHT, plantPosition);
-                gs.getWorld().orElseThrow().getEntities().forEach(x -> {
+                gs.getWorld().orElseThrow().getEntitySnapshot().forEach(x -> {
                     if (temp.isColliding(x.getPhysicsComp().orElseThrow().getHitBox().orElseThrow())) {
                         this.validPosition = false;
                     }
@@ -48,23 +55,23 @@ public class PlantsCreation {
         }
     }
 
-    private Point2D findPosition(final int i) {
+    private Vector2D findPosition(final int i) {
         switch (i) {
             case 0 -> {
-                return new Point2D(plantRandX(1 + GameMap.BORDER_WIDTH, GameMap.MAP_WIDTH),
-                    plantRandY(1 + GameMap.BORDER_HEIGHT, GameMap.MAP_HEIGHT));
+                return new Vector2D(plantRandX(1 + MapDimensions.BORDER_WIDTH, MapDimensions.MAP_WIDTH),
+                    plantRandY(1 + MapDimensions.BORDER_HEIGHT, MapDimensions.MAP_HEIGHT));
             }
             case 1 -> {
-                return new Point2D(plantRandX(1 + GameMap.WIDTH / 2, GameMap.MAP_WIDTH),
-                    plantRandY(1 + GameMap.BORDER_HEIGHT, GameMap.HEIGHT / 2));
+                return new Vector2D(plantRandX(1 + MapDimensions.WIDTH / 2, MapDimensions.MAP_WIDTH),
+                    plantRandY(1 + MapDimensions.BORDER_HEIGHT, MapDimensions.HEIGHT / 2));
             }
             case 2 -> {
-                return new Point2D(plantRandX(1 + GameMap.BORDER_WIDTH, GameMap.WIDTH / 2),
-                    plantRandY(1 + GameMap.HEIGHT / 2, GameMap.MAP_HEIGHT));
+                return new Vector2D(plantRandX(1 + MapDimensions.BORDER_WIDTH, MapDimensions.WIDTH / 2),
+                    plantRandY(1 + MapDimensions.HEIGHT / 2, MapDimensions.MAP_HEIGHT));
             } 
             case 3 -> {
-                return new Point2D(plantRandX(1 + GameMap.WIDTH / 3, GameMap.WIDTH * 2 / 3),
-                    plantRandY(1 + GameMap.HEIGHT / 3, GameMap.HEIGHT * 2 / 3));
+                return new Vector2D(plantRandX(1 + MapDimensions.WIDTH / 3, MapDimensions.WIDTH * 2 / 3),
+                    plantRandY(1 + MapDimensions.HEIGHT / 3, MapDimensions.HEIGHT * 2 / 3));
             }
             default -> {
                 return null;
@@ -1,93 +1,629 @@
 package it.unibo.smol.model.impl;
 
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.SlotMap;
+import it.unibo.smol.common.TimerWheel;
 import it.unibo.smol.controller.input.KeyInputs;
 import it.unibo.smol.controller.input.MouseInputs;
 import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.World;
+import it.unibo.smol.model.Phase;
+import it.unibo.smol.model.PhaseTimes;
 import it.unibo.smol.model.Type;
 
 /**
  * implementation of world interface.
+ * The world has a single writer, the game loop, set when the loop is built and before it starts the game:
+ * adding and removing entities and changing the score from any other thread only queues the change,
+ * which is applied by the writer at the start of its next tick.
+ * The entities are kept in {@link SlotMap}s and found through their handle, so adding and removing one is O(1).
+ * The readers get snapshots of the entities, of all of them or of a {@link Type}, that are copied again
+ * only after an entity of that type is added or removed. Only the writer touches the slot maps and copies them:
+ * it sees every change at once, while the other threads see the snapshots it publishes at the end of each tick.
  */
 public class WorldImpl implements World {
-    private static final Boolean OCCUPIED = true;
-    private static final Boolean FREE = false;
-    private final ConcurrentLinkedDeque<Entity> entities;
-    private final Map<Entity, Boolean> occupiedPlants;
+    /** Min number of entities for which finding the collisions in parallel is worth the forks. */
+    private static final int PARALLEL_THRESHOLD = 64;
+    /** The entities added with {@link #addFirstEntity(Entity)}, that come before the others. */
+    private final SlotMap<Entity> front;
+    private final SlotMap<Entity> back;
+    private final Members all;
+    private final Map<Type, Members> byType;
+    private final Map<Type, List<Entity>> typeViews;
+    private volatile Entity player;
+    private final PlantReservations plantReservations;
+    private final EventBus events;
+    private final List<Runnable> gameOverListeners;
+    private final Queue<Runnable> mailbox;
+    private final TimerWheel timers;
+    private final RandomStreams random;
+    private final Set<Entity> removedInTick;
+    private final List<List<Entity>> collisions;
+    private long[] findTimes;
+    private final EntityColumns columns;
+    private int[] tickSlots;
+    private volatile boolean columnStorage;
+    /** If the tick running finds the collisions on the columns. */
+    private boolean tickOnColumns;
+    private volatile boolean parallelUpdate;
+    private volatile Thread writer;
+    private volatile int plantCount;
     private KeyInputs keyInputs;
     private MouseInputs mouseInputs;
-    private int score;
+    private volatile int score;
 
     /**
-     * constructor for game world.
+     * constructor for game world with timers of its own.
      */
     public WorldImpl() {
-        this.entities = new ConcurrentLinkedDeque<>();
-        this.occupiedPlants = new HashMap<>();
-        this.score = 0;
+        this(new TimerWheel());
     }
 
     /**
-     * copy constructor.
-     * @param world is the world that we want to copy
+     * constructor for game world.
+     * @param timers the timer wheel of the game, shared with the inputs
      */
-    public WorldImpl(final World world) {
-        this.entities = world.getEntities();
-        this.score = world.getScore();
-        this.occupiedPlants = world.occupiedPlants();
-        this.mouseInputs = world.getMouseInputs().orElseThrow();
-        this.keyInputs = world.getKeyInputs().orElseThrow();
+    public WorldImpl(final TimerWheel timers) {
+        this.front = new SlotMap<>();
+        this.back = new SlotMap<>();
+        this.all = new Members(Optional.empty());
+        this.byType = new EnumMap<>(Type.class);
+        this.typeViews = new EnumMap<>(Type.class);
+        createViews();
+        this.plantReservations = new PlantReservations();
+        this.events = new EventBus();
+        this.gameOverListeners = new CopyOnWriteArrayList<>();
+        this.mailbox = new ConcurrentLinkedQueue<>();
+        this.timers = timers;
+        this.random = new RandomStreams();
+        this.removedInTick = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.collisions = new ArrayList<>();
+        this.findTimes = new long[0];
+        this.columns = new EntityColumns();
+        this.tickSlots = new int[0];
+        this.score = 0;
+    }
+
+    private void createViews() {
+        for (final Type type : Type.values()) {
+            final Members members = new Members(Optional.of(type));
+            this.byType.put(type, members);
+            this.typeViews.put(type, new LiveView(members));
+        }
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Entity> getMoles() {
-        return this.entities.stream().filter(entity -> entity.getType() == Type.ENEMY).collect(Collectors.toList());
+        return this.typeViews.get(Type.ENEMY);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public Entity getPlayer() {
-        return this.entities.stream().filter(entity -> entity.getType() == Type.PLAYER).findFirst().get();
+        final Entity current = this.player;
+        if (current == null) {
+            throw new NoSuchElementException("There is no player in the world");
+        }
+        return current;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Entity> getLifePlants() {
-        return this.entities.stream().filter(entity -> entity.getType() == Type.HEALTH).collect(Collectors.toList());
+        return this.typeViews.get(Type.HEALTH);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public ConcurrentLinkedDeque<Entity> getEntities() {
-        return new ConcurrentLinkedDeque<>(this.entities); // no references
+        return new ConcurrentLinkedDeque<>(getEntitySnapshot()); // no references
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> getEntitySnapshot() {
+        return this.all.current().view;
+    }
+
+    /**
+     * Copy the entities, of a type or all of them, in the order of the world: first the ones in front,
+     * then the others. Called by the writer.
+     * @param type the type of the entities to copy, empty for all the entities
+     * @return the entities
+     */
+    private Entity[] collect(final Optional<Type> type) {
+        final List<Entity> taken = new ArrayList<>(this.front.size() + this.back.size());
+        for (final SlotMap<Entity> entities : List.of(this.front, this.back)) {
+            for (int i = 0; i < entities.size(); i++) {
+                final Entity entity = entities.valueAt(i);
+                if (type.isEmpty() || type.get() == entity.getType()) {
+                    taken.add(entity);
+                }
+            }
+        }
+        return taken.toArray(new Entity[0]);
+    }
+
+    /**
+     * The entities of the world at some point, never changed once taken.
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new Entity[0]);
+
+        private final Entity[] array;
+        private final List<Entity> view;
+
+        Snapshot(final Entity[] array) {
+            this.array = array;
+            this.view = Collections.unmodifiableList(Arrays.asList(array));
+        }
+    }
+
+    /**
+     * The entities of a type, or all of them. The writer marks them changed after every add and remove,
+     * copies them again only when it reads them after a change, and publishes its last copy at the end of the tick.
+     * The other threads read the published copy, so they never wait for the writer nor see a tick half done.
+     */
+    private final class Members {
+        private final Optional<Type> type;
+        /** If the entities changed since the last copy, read and written by the writer only. */
+        private boolean dirty;
+        private Snapshot latest;
+        private volatile Snapshot published;
+
+        Members(final Optional<Type> type) {
+            this.type = type;
+            this.latest = Snapshot.EMPTY;
+            this.published = Snapshot.EMPTY;
+        }
+
+        void changed() {
+            this.dirty = true;
+        }
+
+        /**
+         * The writer, or any thread when there is no writer yet, gets the entities as they are now,
+         * the other threads get the ones published at the end of the last tick.
+         * @return the snapshot of the entities
+         */
+        Snapshot current() {
+            final Thread current = writer;
+            if (current != null && current != Thread.currentThread()) {
+                return this.published;
+            }
+            if (this.dirty) {
+                this.dirty = false;
+                this.latest = new Snapshot(collect(this.type));
+            }
+            return this.latest;
+        }
+
+        /**
+         * Publish the entities as they are now to the other threads, called by the writer.
+         */
+        void publish() {
+            this.published = current();
+        }
+    }
+
+    /**
+     * Read-only list that always shows the last snapshot of some entities, iterating it never sees later changes.
+     */
+    private static final class LiveView extends AbstractList<Entity> implements RandomAccess {
+        private final Members members;
+
+        LiveView(final Members members) {
+            this.members = members;
+        }
+
+        @Override
+        public Entity get(final int index) {
+            return this.members.current().array[index];
+        }
+
+        @Override
+        public int size() {
+            return this.members.current().array.length;
+        }
+
+        @Override
+        public Iterator<Entity> iterator() {
+            return this.members.current().view.iterator();
+        }
+    }
+
+    private void insert(final Entity entity, final SlotMap<Entity> entities) {
+        if (contains(entity)) {
+            return;
+        }
+        entity.setHandle(entities.insert(entity));
+        if (this.columnStorage) {
+            entity.setColumns(Optional.of(this.columns));
+        }
+        changed(entity.getType());
+        events.publish(EventBus.Event.ENTITY_SPAWNED, entity, healthOf(entity));
+        if (entity.getType() == Type.PLAYER && this.player == null) {
+            this.player = entity;
+        }
+        if (entity.getType() == Type.HEALTH) {
+            plantReservations.add(entity);
+            plantCount = plantCount + 1;
+        }
+    }
+
+    /**
+     * An entity is in the world if its handle, in one of the slot maps, is the handle of the entity itself.
+     * @param entity the entity to look for
+     * @return {@code true} if the entity is in the world
+     */
+    private boolean contains(final Entity entity) {
+        return this.front.get(entity.getHandle()) == entity || this.back.get(entity.getHandle()) == entity;
+    }
+
+    private void changed(final Type type) {
+        this.all.changed();
+        this.byType.get(type).changed();
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void remove(final Entity thisEntity) {
-        entities.remove(thisEntity);
+        submit(() -> {
+            if (!contains(thisEntity)) {
+                return;
+            }
+            final SlotMap<Entity> entities = this.front.get(thisEntity.getHandle()) == thisEntity ? this.front : this.back;
+            entities.remove(thisEntity.getHandle());
+            thisEntity.setHandle(SlotMap.NO_HANDLE);
+            if (thisEntity.getSlot() != EntityColumns.NO_SLOT) {
+                thisEntity.setColumns(Optional.empty());
+            }
+            changed(thisEntity.getType());
+            if (thisEntity == this.player) {
+                final List<Entity> players = this.typeViews.get(Type.PLAYER);
+                this.player = players.isEmpty() ? null : players.get(0);
+            }
+            removedInTick.add(thisEntity);
+            thisEntity.onRemove();
+            events.publish(EventBus.Event.ENTITY_DIED, thisEntity, healthOf(thisEntity));
+            if (thisEntity.getType() == Type.HEALTH) {
+                plantReservations.remove(thisEntity);
+                plantCount = plantCount - 1;
+                events.publish(EventBus.Event.PLANT_DESTROYED, thisEntity, plantCount);
+                if (plantCount == 0) {
+                    gameOverListeners.forEach(Runnable::run);
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyCommands() {
+        this.writer = Thread.currentThread();
+        Runnable command = mailbox.poll();
+        while (command != null) {
+            command.run();
+            command = mailbox.poll();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWriter(final Thread thread) {
+        this.writer = thread;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(final Runnable command) {
+        final Thread current = this.writer;
+        if (current == null || current == Thread.currentThread()) {
+            command.run();
+        } else {
+            mailbox.add(command);
+        }
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void updateWorld() {
-        this.getEntities().forEach(x -> x.update());
+        tick(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateWorld(final PhaseTimes times) {
+        tick(times);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParallelUpdate(final boolean parallel) {
+        this.parallelUpdate = parallel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setColumnStorage(final boolean storage) {
+        submit(() -> {
+            if (this.columnStorage != storage) {
+                this.columnStorage = storage;
+                final Optional<EntityColumns> attached = storage ? Optional.of(this.columns) : Optional.empty();
+                getEntitySnapshot().forEach(entity -> entity.setColumns(attached));
+            }
+        });
+    }
+
+    /**
+     * Run a tick on the snapshot of the entities at the start of the tick, so the entities
+     * aren't copied by the ticks that don't add or remove any.
+     * @param times where the time of each phase is added, {@code null} if the tick is not timed
+     */
+    private void tick(final PhaseTimes times) {
+        final Snapshot tickSnapshot = this.all.current();
+        final Entity[] tickEntities = tickSnapshot.array;
+        final int size = tickEntities.length;
+        prepareBuffers(size);
+        tickOnColumns = this.columnStorage;
+        removedInTick.clear();
+        for (int i = 0; i < size; i++) {
+            tickEntities[i].storePreviousPosition();
+        }
+        if (parallelUpdate) {
+            phasedTick(tickSnapshot, times);
+        } else {
+            sequentialTick(tickSnapshot, times);
+        }
+        events.dispatch();
+        publish();
+    }
+
+    /**
+     * Publish the snapshots of the entities to the threads that aren't the writer, called by the writer.
+     */
+    private void publish() {
+        this.all.publish();
+        this.byType.values().forEach(Members::publish);
+    }
+
+    /**
+     * Update the entities one after the other: each one moves, finds its collisions with the entities
+     * as they are at that moment and resolves them, then checks its health, before the next one moves.
+     * So the weapon follows the player after the walls pushed it back, and an entity sees the collisions
+     * resolved earlier in the same tick.
+     * @param tickSnapshot the entities at the start of the tick
+     * @param times where the time of each phase is added, {@code null} if the tick is not timed
+     */
+    private void sequentialTick(final Snapshot tickSnapshot, final PhaseTimes times) {
+        final List<Entity> collided = collisions.get(0);
+        Snapshot slotsOf = null;
+        for (final Entity entity : tickSnapshot.array) {
+            if (removedInTick.contains(entity)) {
+                continue;
+            }
+            move(entity, times);
+            long start = System.nanoTime();
+            final Snapshot now = this.all.current();
+            collided.clear();
+            if (tickOnColumns) {
+                if (now != slotsOf) {
+                    fillSlots(now);
+                    slotsOf = now;
+                }
+                columns.findCollisions(entity.getSlot(), tickSlots, now.array.length, collided);
+            } else {
+                entity.getPhysicsComp().orElseThrow().findCollisions(now.view, collided);
+            }
+            for (final Entity other : collided) {
+                if (!removedInTick.contains(other) && !removedInTick.contains(entity)) {
+                    entity.getPhysicsComp().orElseThrow().resolveCollision(other);
+                }
+            }
+            long end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.COLLISION, entity.getType(), end - start);
+            }
+            start = end;
+            if (!removedInTick.contains(entity)) {
+                entity.checkHealth();
+            }
+            end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.HEALTH, entity.getType(), end - start);
+            }
+        }
+    }
+
+    /**
+     * Update the entities in phases: every entity moves, then the collisions of every entity are found
+     * on the positions after all the moves, then they are resolved in the order of the entities.
+     * Finding the collisions only reads the hitboxes, so it is split among threads: each entity
+     * has its own buffer of collisions, so the tick gives the same result however the work was split.
+     * The result differs from the one of {@link #sequentialTick(Snapshot, PhaseTimes)}, since the moves
+     * don't see the collisions of the tick, so it is used only when the parallel update is chosen.
+     * @param tickSnapshot the entities at the start of the tick
+     * @param times where the time of each phase is added, {@code null} if the tick is not timed
+     */
+    private void phasedTick(final Snapshot tickSnapshot, final PhaseTimes times) {
+        final Entity[] tickEntities = tickSnapshot.array;
+        final int size = tickEntities.length;
+        if (tickOnColumns) {
+            fillSlots(tickSnapshot);
+        }
+        for (int i = 0; i < size; i++) {
+            move(tickEntities[i], times);
+        }
+        if (size >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new FindCollisions(tickSnapshot, 0, size, times != null));
+        } else {
+            findCollisions(tickSnapshot, 0, size, times != null);
+        }
+        for (int i = 0; i < size; i++) {
+            final Entity entity = tickEntities[i];
+            if (removedInTick.contains(entity)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            for (final Entity other : collisions.get(i)) {
+                if (!removedInTick.contains(other) && !removedInTick.contains(entity)) {
+                    entity.getPhysicsComp().orElseThrow().resolveCollision(other);
+                }
+            }
+            long end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.COLLISION, entity.getType(), findTimes[i] + end - start);
+            }
+            start = end;
+            if (!removedInTick.contains(entity)) {
+                entity.checkHealth();
+            }
+            end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.HEALTH, entity.getType(), end - start);
+            }
+        }
+    }
+
+    /**
+     * Copy the slots of some entities in the columns, growing the array of the slots if needed.
+     * @param entities the entities
+     */
+    private void fillSlots(final Snapshot entities) {
+        final int size = entities.array.length;
+        if (tickSlots.length < size) {
+            tickSlots = new int[Math.max(size, tickSlots.length * 2)];
+        }
+        for (int i = 0; i < size; i++) {
+            tickSlots[i] = entities.array[i].getSlot();
+        }
+    }
+
+    private static int healthOf(final Entity entity) {
+        return entity.getHealthComp().isPresent() ? entity.getHealthComp().get().getCurrentHealth() : 0;
+    }
+
+    /**
+     * Prepare a buffer of collisions, a time and a slot for each entity of the tick, reusing the ones of the previous ticks.
+     * @param size the number of entities
+     */
+    private void prepareBuffers(final int size) {
+        while (collisions.size() < Math.max(1, size)) {
+            collisions.add(new ArrayList<>());
+        }
+        if (findTimes.length < size) {
+            findTimes = new long[Math.max(size, findTimes.length * 2)];
+            tickSlots = new int[findTimes.length];
+        }
+    }
+
+    private void move(final Entity entity, final PhaseTimes times) {
+        if (times != null) {
+            times.count(entity.getType());
+        }
+        if (entity.getInputComp().isPresent()) {
+            long start = System.nanoTime();
+            entity.processInput();
+            long end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.INPUT, entity.getType(), end - start);
+            }
+            start = end;
+            entity.updatePosition();
+            end = System.nanoTime();
+            if (times != null) {
+                times.record(Phase.POSITION, entity.getType(), end - start);
+            }
+        }
+    }
+
+    private void findCollisions(final Snapshot tickSnapshot, final int from, final int to, final boolean timed) {
+        for (int i = from; i < to; i++) {
+            final long start = timed ? System.nanoTime() : 0;
+            final List<Entity> collided = collisions.get(i);
+            collided.clear();
+            if (tickOnColumns) {
+                columns.findCollisions(tickSlots[i], tickSlots, tickSnapshot.array.length, collided);
+            } else {
+                tickSnapshot.array[i].getPhysicsComp().orElseThrow().findCollisions(tickSnapshot.view, collided);
+            }
+            if (timed) {
+                findTimes[i] = System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Fork/join task that finds the collisions of a range of the entities of the tick.
+     */
+    private final class FindCollisions extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Snapshot tickSnapshot;
+        private final int from;
+        private final int to;
+        private final boolean timed;
+
+        FindCollisions(final Snapshot tickSnapshot, final int from, final int to, final boolean timed) {
+            this.tickSnapshot = tickSnapshot;
+            this.from = from;
+            this.to = to;
+            this.timed = timed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD / 2) {
+                findCollisions(tickSnapshot, from, to, timed);
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new FindCollisions(tickSnapshot, from, middle, timed),
+                    new FindCollisions(tickSnapshot, middle, to, timed));
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}}
      */
@@ -100,47 +636,133 @@ public class WorldImpl implements World {
      */
     @Override
     public void addEntity(final Entity entity) {
-        this.entities.add(entity);
+        submit(() -> insert(entity, this.back));
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void addFirstEntity(final Entity entity) {
-        this.entities.addFirst(entity);
+        submit(() -> insert(entity, this.front));
     }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public void incScore(final int quantity) {
-        if (this.score + quantity >= 0) {
-            this.score = this.score + quantity;
-        }
-    } 
+    public void replacePlants(final List<Entity> plants) {
+        submit(() -> {
+            final List<Entity> current = new ArrayList<>(getLifePlants());
+            // every plant leaves the slot maps and the registry, to enter them again in the order of the new ones
+            for (final Entity plant : current) {
+                final SlotMap<Entity> entities = this.front.get(plant.getHandle()) == plant ? this.front : this.back;
+                entities.remove(plant.getHandle());
+                plant.setHandle(SlotMap.NO_HANDLE);
+                plantReservations.remove(plant);
+            }
+            plantCount = 0;
+            for (final Entity plant : current) {
+                if (plants.contains(plant)) {
+                    plantCount = plantCount + 1;
+                } else {
+                    if (plant.getSlot() != EntityColumns.NO_SLOT) {
+                        plant.setColumns(Optional.empty());
+                    }
+                    removedInTick.add(plant);
+                    plant.onRemove();
+                    events.publish(EventBus.Event.ENTITY_DIED, plant, healthOf(plant));
+                    events.publish(EventBus.Event.PLANT_DESTROYED, plant, plants.size());
+                }
+            }
+            for (final Entity plant : plants) {
+                if (current.contains(plant)) {
+                    plant.setHandle(this.front.insert(plant));
+                    plantReservations.add(plant);
+                } else {
+                    insert(plant, this.front);
+                }
+            }
+            changed(Type.HEALTH);
+            if (plantCount == 0 && !current.isEmpty()) {
+                gameOverListeners.forEach(Runnable::run);
+            }
+        });
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public ConcurrentMap<Entity, Boolean> occupiedPlants() {
-        updateLifePlants();
-        return new ConcurrentHashMap<>(this.occupiedPlants);
+    public int getPlantCount() {
+        return this.plantCount;
     }
 
-    private void updateLifePlants() {
-        getLifePlants().forEach(plant -> {
-            if (!occupiedPlants.containsKey(plant)) {
-                occupiedPlants.put(plant, FREE);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addGameOverListener(final Runnable listener) {
+        this.gameOverListeners.add(listener);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimerWheel getTimers() {
+        return this.timers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomStreams getRandom() {
+        return this.random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.timers.cancelAll();
+        this.timers.resume();
+        this.mailbox.clear();
+        this.writer = null;
+        this.gameOverListeners.clear();
+        int plantsLeft = this.plantCount;
+        for (final Entity entity : getEntitySnapshot()) {
+            entity.setColumns(Optional.empty());
+            entity.onRemove();
+            // the listeners forget the entities of this game at the first tick of the next one
+            events.publish(EventBus.Event.ENTITY_DIED, entity, healthOf(entity));
+            if (entity.getType() == Type.HEALTH) {
+                plantsLeft--;
+                events.publish(EventBus.Event.PLANT_DESTROYED, entity, plantsLeft);
             }
-        });
-        checkRemoved();
+        }
+        this.front.clear();
+        this.back.clear();
+        this.player = null;
+        this.all.changed();
+        this.byType.values().forEach(Members::changed);
+        publish();
+        this.plantReservations.clear();
+        this.plantCount = 0;
+        this.score = 0;
+        events.publish(EventBus.Event.SCORE_CHANGED, null, 0);
+        this.random.reseed(RandomStreams.profileSeed());
     }
 
-    private void checkRemoved() {
-        occupiedPlants.keySet().forEach(plant -> {
-            if (!getLifePlants().contains(plant)) {
-                occupiedPlants.remove(plant);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void incScore(final int quantity) {
+        submit(() -> {
+            if (this.score + quantity >= 0) {
+                this.score = this.score + quantity;
+                events.publish(EventBus.Event.SCORE_CHANGED, null, this.score);
             }
         });
     }
@@ -149,22 +771,16 @@ public class WorldImpl implements World {
      * {@inheritDoc}
      */
     @Override
-    public void setPlantFree(final Entity plant) {
-        updateLifePlants();
-        if (occupiedPlants.containsKey(plant)) {
-            occupiedPlants.put(plant, FREE);
-        }
+    public PlantReservations getPlantReservations() {
+        return this.plantReservations;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setPlantOccupied(final Entity plant) {
-        updateLifePlants();
-        if (occupiedPlants.containsKey(plant)) {
-            occupiedPlants.put(plant, OCCUPIED);
-        }
+    public EventBus getEvents() {
+        return this.events;
     }
 
     /**
@@ -0,0 +1,422 @@
+package it.unibo.smol.model.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.zip.CRC32;
+
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.Vector2D;
+import it.unibo.smol.controller.api.EnemyInput;
+import it.unibo.smol.controller.api.GameState;
+import it.unibo.smol.controller.api.InputComponent;
+import it.unibo.smol.model.Type;
+import it.unibo.smol.model.api.Entity;
+import it.unibo.smol.model.api.PhysicsComponent;
+import it.unibo.smol.model.api.World;
+
+/**
+ * Binary snapshot of a game in progress, to suspend it and resume it later or to keep checkpoints of long runs.
+ * The snapshot has a header (magic number, version, length and checksum of the body) followed by the body:
+ * the random streams and the score, the state of the {@link EnemyCreation}, then the entities in the order of the world,
+ * each with its position, movement, health and, for the moles, the kind and the state of the input with its own stream.
+ * The walls aren't written since every game has the same ones, the player and the weapon are moved to their position,
+ * the plants still in the game get back their health and the others are built again, as are the moles.
+ * The pending timers are written as the time they still have to wait.
+ * The state of the random streams is written as it is, without drawing from them: taking a snapshot doesn't change
+ * the game being played, and the restored game draws the same numbers as the one that goes on.
+ * Taking and restoring a snapshot are done by the thread that writes the world, between two ticks.
+ */
+public final class WorldSnapshot {
+
+    /** The name of the snapshot file in the Smol folder of the user. */
+    public static final String FILE_NAME = "World.snapshot";
+    /** The first bytes of a snapshot, {@code SMOL} in ASCII. */
+    public static final int MAGIC = 0x534D4F4C;
+    /** The version of the format, raised at every change of the layout, including the order of {@link Type}. */
+    public static final short VERSION = 2;
+
+    private static final String PATH = System.getProperty("user.home") + File.separator + "Smol";
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+    /** Room for the fixed part of the body, the rest grows with the entities. */
+    private static final int BODY_BYTES = 256;
+    private static final int ENTITY_BYTES = 256;
+    /** Bigger files aren't snapshots of this game. */
+    private static final int MAX_BYTES = 16_777_216;
+
+    private WorldSnapshot() {
+    }
+
+    /**
+     * Getter for the file the game is saved to.
+     * @return the path of {@value #FILE_NAME} in the Smol folder of the user
+     */
+    public static Path getDefaultFile() {
+        return new File(PATH, FILE_NAME).toPath();
+    }
+
+    /**
+     * Take a snapshot of a game, without changing it.
+     * @param gameState the game
+     * @param spawner the creation of the enemies of the game
+     * @return the snapshot, ready to be read
+     */
+    public static ByteBuffer capture(final GameState gameState, final EnemyCreation spawner) {
+        final World world = gameState.getWorld().orElseThrow();
+        int capacity = HEADER_BYTES + BODY_BYTES + world.getEntitySnapshot().size() * ENTITY_BYTES;
+        while (true) {
+            final ByteBuffer out = ByteBuffer.allocate(capacity);
+            try {
+                out.position(HEADER_BYTES);
+                writeBody(out, world, spawner);
+                out.flip();
+                final ByteBuffer body = out.duplicate().position(HEADER_BYTES);
+                out.putInt(MAGIC).putShort(VERSION).putInt(body.remaining()).putInt(checksum(body));
+                out.rewind();
+                return out;
+            } catch (BufferOverflowException e) {
+                capacity = capacity * 2;
+            }
+        }
+    }
+
+    private static void writeBody(final ByteBuffer out, final World world, final EnemyCreation spawner) {
+        world.getRandom().writeState(out);
+        out.putInt(world.getScore());
+        spawner.writeState(out);
+        final List<Entity> plants = world.getLifePlants();
+        final List<Entity> written = world.getEntitySnapshot().stream().filter(e -> e.getType() != Type.WALL).toList();
+        out.putInt(written.size());
+        for (final Entity entity : written) {
+            final PhysicsComponent physics = entity.getPhysicsComp().orElseThrow();
+            out.put((byte) entity.getType().ordinal())
+                .putDouble(entity.getCurrentX()).putDouble(entity.getCurrentY())
+                .putDouble(entity.getPreviousX()).putDouble(entity.getPreviousY())
+                .putDouble(physics.getX()).putDouble(physics.getY())
+                .put((byte) (physics.isRigid() ? 1 : 0))
+                .put((byte) (entity.getHealthComp().isPresent() ? 1 : 0));
+            entity.getHealthComp().ifPresent(health -> out.putInt(health.getCurrentHealth()));
+            if (entity.getType() == Type.ENEMY) {
+                putString(out, ((EntityImpl) entity).getPool().orElseThrow().getName());
+                enemyInput(entity).orElseThrow().writeState(out, plants);
+            }
+        }
+    }
+
+    /**
+     * Bring a game back to a snapshot: the moles of the game are replaced by the ones of the snapshot, the plants
+     * are brought back in place so the game isn't over while it's restored, the player and the weapon are moved
+     * where they were, and the score and the creation of the enemies go back to the state they had.
+     * The whole snapshot is read and checked before the game is changed, so a snapshot that can't be restored
+     * leaves the game as it was.
+     * @param snapshot the snapshot taken by {@link #capture(GameState, EnemyCreation)}
+     * @param gameState the game
+     * @param spawner the creation of the enemies of the game
+     * @throws IllegalArgumentException if the snapshot is damaged or of another version
+     */
+    public static void restore(final ByteBuffer snapshot, final GameState gameState, final EnemyCreation spawner) {
+        final ByteBuffer in = snapshot.duplicate();
+        final Body body;
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a snapshot of the game");
+            }
+            final short version = in.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Snapshot version " + version + " isn't supported");
+            }
+            final int length = in.getInt();
+            final int expected = in.getInt();
+            if (length != in.remaining() || checksum(in.duplicate()) != expected) {
+                throw new IllegalArgumentException("The snapshot is damaged");
+            }
+            body = readBody(in);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The snapshot is truncated", e);
+        }
+        apply(body, gameState, spawner);
+    }
+
+    /**
+     * Read the whole body before the game is changed, so a snapshot that can't be restored leaves the game as it was.
+     * @param in where the body is read from
+     * @return the body, checked
+     * @throws IllegalArgumentException if the body can't be restored
+     */
+    private static Body readBody(final ByteBuffer in) {
+        final RandomStreams random = RandomStreams.readState(in);
+        final int score = in.getInt();
+        final EnemyCreation.State spawner = EnemyCreation.readState(in);
+        final int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("The snapshot has " + count + " entities");
+        }
+        final List<EntityState> entities = new ArrayList<>();
+        int plants = 0;
+        for (int i = 0; i < count; i++) {
+            final EntityState entity = new EntityState(in);
+            if (entity.type == Type.HEALTH) {
+                plants++;
+            }
+            entities.add(entity);
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("The snapshot has " + in.remaining() + " bytes after the entities");
+        }
+        for (final EntityState entity : entities) {
+            if (entity.input != null && entity.input.getPlant() >= plants) {
+                throw new IllegalArgumentException("A mole of the snapshot claims the missing plant "
+                    + entity.input.getPlant());
+            }
+        }
+        return new Body(random, score, spawner, entities);
+    }
+
+    private static void apply(final Body body, final GameState gameState, final EnemyCreation spawner) {
+        final World world = gameState.getWorld().orElseThrow();
+        final Map<Type, Queue<Entity>> kept = new EnumMap<>(Type.class);
+        final List<Entity> oldPlants = new ArrayList<>();
+        for (final Entity entity : world.getEntitySnapshot()) {
+            if (entity.getType() == Type.ENEMY) {
+                world.remove(entity);
+            } else if (entity.getType() == Type.HEALTH) {
+                oldPlants.add(entity);
+            } else {
+                kept.computeIfAbsent(entity.getType(), type -> new ArrayDeque<>()).add(entity);
+            }
+        }
+        world.incScore(body.score - world.getScore());
+        spawner.restoreState(body.spawner);
+        final List<Entity> plants = new ArrayList<>();
+        for (final EntityState state : body.entities) {
+            if (state.type == Type.HEALTH) {
+                plants.add(restorePlant(state, oldPlants, gameState));
+            }
+        }
+        world.replacePlants(plants);
+        for (final EntityState state : body.entities) {
+            if (state.type == Type.ENEMY) {
+                final Entity mole = gameState.getEntityFactory()
+                    .createEnemy(state.archetype, new Vector2D(state.x, state.y), world);
+                state.applyTo(mole);
+                final EnemyInput input = enemyInput(mole).orElseThrow();
+                input.restoreState(state.input, plants);
+                world.addEntity(mole);
+            } else if (state.type != Type.HEALTH) {
+                final Entity entity = kept.getOrDefault(state.type, new ArrayDeque<>()).poll();
+                if (entity != null) {
+                    state.applyTo(entity);
+                }
+            }
+        }
+        world.getRandom().restore(body.random);
+    }
+
+    /**
+     * The plants don't move, so a plant of the snapshot still in the world is the one in the same place:
+     * it's kept with the health of the snapshot, told to the listeners as damage, negative if it heals.
+     * A plant that isn't there anymore is made again, to enter the world with the others.
+     * @param state the state of the plant in the snapshot
+     * @param oldPlants the plants of the world not matched yet, the one matched is taken out
+     * @param gameState the game
+     * @return the plant of the world in the state of the snapshot
+     */
+    private static Entity restorePlant(final EntityState state, final List<Entity> oldPlants, final GameState gameState) {
+        final World world = gameState.getWorld().orElseThrow();
+        for (final Iterator<Entity> it = oldPlants.iterator(); it.hasNext();) {
+            final Entity plant = it.next();
+            if (plant.getCurrentX() == state.x && plant.getCurrentY() == state.y) {
+                it.remove();
+                final HealthComponent health = plant.getHealthComp().orElseThrow();
+                final int before = health.getCurrentHealth();
+                state.applyTo(plant);
+                if (health.getCurrentHealth() != before) {
+                    world.getEvents().publish(EventBus.Event.DAMAGE_APPLIED, plant, before - health.getCurrentHealth());
+                }
+                return plant;
+            }
+        }
+        final Entity plant = gameState.getEntityFactory().createLifePlants(state.x, state.y, world);
+        state.applyTo(plant);
+        return plant;
+    }
+
+    private static Optional<EnemyInput> enemyInput(final Entity entity) {
+        return entity.getInputComp().flatMap(InputComponent::getEnemyInput);
+    }
+
+    private static int checksum(final ByteBuffer body) {
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Write a string in a snapshot, as its length and its UTF-8 bytes.
+     * @param out where the string is written
+     * @param value the string
+     */
+    static void putString(final ByteBuffer out, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    /**
+     * Read a string written by {@link #putString(ByteBuffer, String)}.
+     * @param in where the string is read from
+     * @return the string
+     */
+    static String getString(final ByteBuffer in) {
+        final byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write a snapshot in a file through a channel. The snapshot is first written next to the file and then
+     * moved in its place, so a run stopped while writing leaves the last snapshot whole.
+     * @param snapshot the snapshot, its position isn't changed
+     * @param file the file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(final ByteBuffer snapshot, final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer out = snapshot.duplicate();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read a snapshot from a file through a channel.
+     * @param file the file
+     * @return the snapshot, ready to be restored
+     * @throws IOException if the file can't be read or is too big to be a snapshot
+     */
+    public static ByteBuffer read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > MAX_BYTES) {
+                throw new IOException(file + " is too big to be a snapshot");
+            }
+            final ByteBuffer in = ByteBuffer.allocate((int) size);
+            int read = 0;
+            while (in.hasRemaining() && read >= 0) {
+                read = channel.read(in);
+            }
+            return in.flip();
+        }
+    }
+
+    /**
+     * The body of a snapshot, read and checked.
+     */
+    private static final class Body {
+        private final RandomStreams random;
+        private final int score;
+        private final EnemyCreation.State spawner;
+        private final List<EntityState> entities;
+
+        Body(final RandomStreams random, final int score, final EnemyCreation.State spawner,
+            final List<EntityState> entities) {
+            this.random = random;
+            this.score = score;
+            this.spawner = spawner;
+            this.entities = entities;
+        }
+    }
+
+    /**
+     * An entity of a snapshot, read and checked.
+     */
+    private static final class EntityState {
+        private final Type type;
+        private final double x;
+        private final double y;
+        private final double previousX;
+        private final double previousY;
+        private final double moveX;
+        private final double moveY;
+        private final boolean rigid;
+        private final boolean hasHealth;
+        private final int health;
+        private final EnemyArchetype archetype;
+        private final EnemyInput.State input;
+
+        EntityState(final ByteBuffer in) {
+            final int ordinal = Byte.toUnsignedInt(in.get());
+            if (ordinal >= Type.values().length) {
+                throw new IllegalArgumentException("The snapshot has an entity of type " + ordinal);
+            }
+            this.type = Type.values()[ordinal];
+            if (type != Type.HEALTH && type != Type.ENEMY && type != Type.PLAYER && type != Type.WEAPON) {
+                throw new IllegalArgumentException("The snapshot has an entity of type " + type);
+            }
+            this.x = in.getDouble();
+            this.y = in.getDouble();
+            this.previousX = in.getDouble();
+            this.previousY = in.getDouble();
+            this.moveX = in.getDouble();
+            this.moveY = in.getDouble();
+            this.rigid = in.get() != 0;
+            this.hasHealth = in.get() != 0;
+            this.health = hasHealth ? in.getInt() : 0;
+            if (health < 0) {
+                throw new IllegalArgumentException("The snapshot has an entity with health " + health);
+            }
+            if (type == Type.ENEMY) {
+                this.archetype = EnemyArchetype.get(getString(in));
+                this.input = EnemyInput.readState(in);
+            } else {
+                this.archetype = null;
+                this.input = null;
+            }
+        }
+
+        void applyTo(final Entity entity) {
+            entity.setX(previousX);
+            entity.setY(previousY);
+            entity.storePreviousPosition();
+            entity.setX(x);
+            entity.setY(y);
+            final PhysicsComponent physics = entity.getPhysicsComp().orElseThrow();
+            physics.setX(moveX);
+            physics.setY(moveY);
+            physics.setRigid(rigid);
+            physics.updateHitbox(x, y);
+            if (hasHealth) {
+                entity.getHealthComp().ifPresent(component -> component.restore(health));
+            }
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package it.unibo.smol.model.impl.physicscomponent;
 
 import java.util.Optional;
-import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
 import it.unibo.smol.common.HitBox;
 import it.unibo.smol.model.Type;
 import it.unibo.smol.model.api.Entity;
@@ -16,7 +17,7 @@ public class PlayerPhysicsComponent extends PhysicsComponent {
      * @param hitBox : See the super-Constructor
      */
     public PlayerPhysicsComponent(final HitBox hitBox) {
-        super(Constant.PLAYER_MOVSPD, Optional.of(hitBox));
+        super(TuningProfile.get(Tunable.PLAYER_SPEED), Optional.of(hitBox));
     }
 
     /**
@@ -4,9 +4,9 @@ import java.util.Optional;
 
 import it.unibo.smol.common.Constant;
 import it.unibo.smol.common.HitBox;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.PhysicsComponent;
-import javafx.geometry.Point2D;
 import it.unibo.smol.model.api.World;
 
 /**
@@ -34,21 +34,21 @@ public class WeaponPhysicsComponent extends PhysicsComponent {
      * {@inheritDoc}
      */
     @Override
-    public void receiveMovement(final Point2D move) {
+    public void receiveMovement(final Vector2D move) {
         final World world = this.getEntity().orElseThrow().getWorld().orElseThrow();
         final double wRange = world.getMouseInputs().orElseThrow().getWeaponRange();
-        final Point2D playerLocation = world.getPlayer().getCurrentPosition();
-        final Point2D weaponLocation = updateWeaponLocation(move, wRange, playerLocation);
+        final Vector2D playerLocation = world.getPlayer().getCurrentPosition();
+        final Vector2D weaponLocation = updateWeaponLocation(move, wRange, playerLocation);
         super.setX(weaponLocation.getX());
         super.setY(weaponLocation.getY());
     }
 
-    private Point2D updateWeaponLocation(final Point2D move, final double wRange, final Point2D playerLocation) {
+    private Vector2D updateWeaponLocation(final Vector2D move, final double wRange, final Vector2D playerLocation) {
         final double r = wRange / 2;
         final double angle = Math.atan2(move.getY() - playerLocation.getY(), move.getX() - playerLocation.getX());
         final double tempX = r * Math.cos(angle);
         final double tempY = r * Math.sin(angle);
-        return new Point2D(playerLocation.getX() + tempX, playerLocation.getY() + tempY);
+        return new Vector2D(playerLocation.getX() + tempX, playerLocation.getY() + tempY);
     }
 
     /**
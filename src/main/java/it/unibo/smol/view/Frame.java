@@ -0,0 +1,157 @@
+package it.unibo.smol.view;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of what has to be drawn at the end of a tick: the sprites of the entities and the values of the HUD.
+ * A frame is filled by the game loop in the back buffer of a {@link FrameBuffer} and never changes
+ * once it is published, until the JavaFX thread gives it back by taking a newer one.
+ * The sprites are stored in parallel arrays reused from frame to frame, so taking a snapshot doesn't allocate.
+ */
+public final class Frame {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private String[] images;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] currentX;
+    private double[] currentY;
+    private double[] width;
+    private double[] height;
+    private int size;
+    private int score;
+    private double health;
+
+    /**
+     * Constructor for an empty frame.
+     */
+    public Frame() {
+        this.images = new String[INITIAL_CAPACITY];
+        this.previousX = new double[INITIAL_CAPACITY];
+        this.previousY = new double[INITIAL_CAPACITY];
+        this.currentX = new double[INITIAL_CAPACITY];
+        this.currentY = new double[INITIAL_CAPACITY];
+        this.width = new double[INITIAL_CAPACITY];
+        this.height = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Empty the frame to fill it with a new tick.
+     * @param score the score of the game
+     * @param health the life left to the plants, between 0 and 1
+     */
+    public void clear(final int score, final double health) {
+        Arrays.fill(this.images, 0, this.size, null);
+        this.size = 0;
+        this.score = score;
+        this.health = health;
+    }
+
+    /**
+     * Add the sprite of an entity.
+     * @param image the name of the image of the sprite
+     * @param fromX the x of the center of the entity at the previous tick
+     * @param fromY the y of the center of the entity at the previous tick
+     * @param toX the x of the center of the entity at this tick
+     * @param toY the y of the center of the entity at this tick
+     * @param spriteWidth the width of the sprite
+     * @param spriteHeight the height of the sprite
+     */
+    public void add(final String image, final double fromX, final double fromY, final double toX, final double toY,
+        final double spriteWidth, final double spriteHeight) {
+        if (size == images.length) {
+            grow();
+        }
+        this.images[size] = image;
+        this.previousX[size] = fromX;
+        this.previousY[size] = fromY;
+        this.currentX[size] = toX;
+        this.currentY[size] = toY;
+        this.width[size] = spriteWidth;
+        this.height[size] = spriteHeight;
+        size++;
+    }
+
+    private void grow() {
+        final int capacity = images.length * 2;
+        this.images = Arrays.copyOf(images, capacity);
+        this.previousX = Arrays.copyOf(previousX, capacity);
+        this.previousY = Arrays.copyOf(previousY, capacity);
+        this.currentX = Arrays.copyOf(currentX, capacity);
+        this.currentY = Arrays.copyOf(currentY, capacity);
+        this.width = Arrays.copyOf(width, capacity);
+        this.height = Arrays.copyOf(height, capacity);
+    }
+
+    /**
+     * Getter for the number of sprites.
+     * @return the sprites in the frame
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter for the image of a sprite.
+     * @param index the index of the sprite
+     * @return the name of the image
+     */
+    public String getImage(final int index) {
+        return this.images[index];
+    }
+
+    /**
+     * The x of the center of a sprite between the previous and the current tick.
+     * @param index the index of the sprite
+     * @param alpha 0 for the previous tick, 1 for the current one
+     * @return the interpolated x
+     */
+    public double getX(final int index, final double alpha) {
+        return previousX[index] + (currentX[index] - previousX[index]) * alpha;
+    }
+
+    /**
+     * The y of the center of a sprite between the previous and the current tick.
+     * @param index the index of the sprite
+     * @param alpha 0 for the previous tick, 1 for the current one
+     * @return the interpolated y
+     */
+    public double getY(final int index, final double alpha) {
+        return previousY[index] + (currentY[index] - previousY[index]) * alpha;
+    }
+
+    /**
+     * Getter for the width of a sprite.
+     * @param index the index of the sprite
+     * @return the width
+     */
+    public double getWidth(final int index) {
+        return this.width[index];
+    }
+
+    /**
+     * Getter for the height of a sprite.
+     * @param index the index of the sprite
+     * @return the height
+     */
+    public double getHeight(final int index) {
+        return this.height[index];
+    }
+
+    /**
+     * Getter for the score of the game.
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Getter for the life left to the plants.
+     * @return a value between 0 and 1
+     */
+    public double getHealth() {
+        return this.health;
+    }
+}
@@ -0,0 +1,62 @@
+package it.unibo.smol.view;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer of {@link Frame}s between the game loop, that writes them, and the JavaFX thread, that draws them.
+ * The writer fills the back frame and publishes it by swapping it with the middle one, the reader takes the
+ * middle frame by swapping it with the one it was drawing: each side does a single atomic swap and never waits,
+ * the reader always gets the latest complete frame and the frames it doesn't take are simply overwritten.
+ */
+public class FrameBuffer {
+
+    private static final int FRAMES = 3;
+    private static final int INDEX = 0b11;
+    /** Set on the middle index when it holds a frame the reader didn't take yet. */
+    private static final int FRESH = 0b100;
+
+    private final Frame[] frames;
+    private final AtomicInteger middle;
+    private int back;
+    private int front;
+
+    /**
+     * Constructor for a buffer of empty frames.
+     */
+    public FrameBuffer() {
+        this.frames = new Frame[FRAMES];
+        for (int i = 0; i < FRAMES; i++) {
+            this.frames[i] = new Frame();
+        }
+        this.front = 0;
+        this.middle = new AtomicInteger(1);
+        this.back = 2;
+    }
+
+    /**
+     * The frame to fill, to be used only by the writer.
+     * @return the back frame
+     */
+    public Frame getBack() {
+        return frames[back];
+    }
+
+    /**
+     * Publish the back frame, the writer gets another frame to fill.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * The latest published frame, to be used only by the reader.
+     * The frame stays the same until the next call.
+     * @return the frame to draw
+     */
+    public Frame take() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return frames[front];
+    }
+}
@@ -18,24 +18,17 @@ public final class LoadImgs {
         Constant.KEY_PIXEL_SKINS, "pixel_moles/",
         Constant.KEY_VECTORIAL_SKINS, "vectorial_moles/"));
 
-    /**basic mole gif. */
-    public static final String MOLE = "mole1.gif";
     /**player gif. */
     public static final String PLAYER = "player.gif";
     /**player moving right gif. */
     public static final String PLAYER_RIGHT = "player_right.gif";
     /**player moving left gif. */
     public static final String PLAYER_LEFT = "player_left.gif";
-    /**Helmet mole gif. */
-    public static final String HELM_MOLE = "Helmet_mole.gif";
-    /**Bomb mole gif. */
-    public static final String BOMB_MOLE = "Bomb_mole.gif";
     /**target of the weapon png. */
     public static final String W_TARGET = "weapon_target.png";
-    /**angry mole gif. */
+    /**angry mole gif for the menu, the moles in game use the sprites of their
+     * {@link it.unibo.smol.common.EnemyArchetype}. */
     public static final String ANGRY_MOLE = "Angry_mole.gif";
-    /**helmet mole after it got an hit gif. */
-    public static final String HELM_HIT_MOLE = "Hitted_Helmet_mole.gif";
     /**plants png. */
     public static final String LIFE_PLANTS = "Life_plants.png";
     /**chopped plants png. */
@@ -0,0 +1,19 @@
+package it.unibo.smol.view;
+
+/**
+ * The strategies the game view can use to decide when a frame is drawn.
+ * In both modes at most one frame is waiting for the JavaFX thread at any time.
+ */
+public enum RenderMode {
+
+    /**
+     * Each frame requested by the game loop is posted to the JavaFX thread,
+     * unless the previous one has not been drawn yet.
+     */
+    COALESCED,
+
+    /**
+     * Frames are drawn on the JavaFX pulse, the game loop only marks that a new frame is ready.
+     */
+    PULSE;
+}
@@ -3,7 +3,6 @@ package it.unibo.smol.view.api;
 import java.util.Optional;
 
 import it.unibo.smol.model.api.Entity;
-import it.unibo.smol.view.impl.GraphicsDraw;
 
 /**
  * Abstract class rappresenting the template of the graphics component for the {@link GameObject}.
@@ -48,6 +47,7 @@ public abstract class GraphicComponent {
 
     /**
      * Update the current state of the {@link GraphicComponent}.
+     * Called by the game loop when the snapshot of a tick is taken.
      */
     public void update() {
         updateAnimation();
@@ -55,11 +55,11 @@ public abstract class GraphicComponent {
     }
 
     /**
-     * {@inheritDoc}
+     * Forget the state of the animation, when the entity is reused.
+     * The image is chosen again by the next {@link #update()}.
      */
-    public void render(final GraphicsDraw graphic) {
-        this.update();
-        graphic.drawSprite(this.entity, this);
+    public void reset() {
+        this.imageName = null;
     }
 
     /**
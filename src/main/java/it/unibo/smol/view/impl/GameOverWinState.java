@@ -2,10 +2,13 @@ package it.unibo.smol.view.impl;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
+import it.unibo.smol.core.GameEngine;
 import it.unibo.smol.view.GameMap;
 import it.unibo.smol.view.LoadImgs;
 import it.unibo.smol.view.api.WindowState;
@@ -37,6 +40,7 @@ public final class GameOverWinState implements WindowState {
     private static Logger logger = Logger.getLogger("gameOverLogger");
     private final int finalScore;
     private final String folderName;
+    private final Optional<GameEngine> engine;
 
     /**
      * gets the final score.
@@ -45,8 +49,20 @@ public final class GameOverWinState implements WindowState {
      * @param folderName
      */
     public GameOverWinState(final int currentScore, final String folderName) {
+        this(currentScore, folderName, Optional.empty());
+    }
+
+    /**
+     * gets the final score and the engine used to restart the game in place.
+     * 
+     * @param currentScore
+     * @param folderName
+     * @param engine the engine of the game over, if empty the restart goes back to the menu
+     */
+    public GameOverWinState(final int currentScore, final String folderName, final Optional<GameEngine> engine) {
         this.finalScore = currentScore;
         this.folderName = folderName;
+        this.engine = engine;
     }
 
     /**
@@ -73,23 +89,28 @@ public final class GameOverWinState implements WindowState {
         Platform.runLater(() -> {
             try {
                 final Parent root = FXMLLoader.load(getClass().getResource("/layouts/GameOver.fxml"));
-                final Scene scene = new Scene(root, GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1,
-                        GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
+                final Scene scene = new Scene(root, MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                        MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
                 final Button restartGame = (Button) scene.lookup("#restartGame");
                 final Button closeGame = (Button) scene.lookup("#closeGame");
                 final Text score = (Text) scene.lookup("#score");
                 final VBox gameOverBox = (VBox) scene.lookup("#box");
                 final ImageView title = (ImageView) scene.lookup("#boxImage");
                 scene.setCursor(new ImageCursor(LoadImgs.getSprites(LoadImgs.HAMMER, Constant.KEY_COMMON_FOLDER)));
-                gameOverBox.setSpacing((GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X) / 3);
+                gameOverBox.setSpacing((MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X) / 3);
                 buttonManagement(restartGame);
                 buttonManagement(closeGame);
-                title.setFitWidth(GameMap.SCREEN_PROP_X * GameMap.BORDER_WIDTH * 3);
-                title.setFitHeight(GameMap.SCREEN_PROP_Y * GameMap.BORDER_HEIGHT * 3);
+                title.setFitWidth(GameMap.SCREEN_PROP_X * MapDimensions.BORDER_WIDTH * 3);
+                title.setFitHeight(GameMap.SCREEN_PROP_Y * MapDimensions.BORDER_HEIGHT * 3);
                 restartGame.setOnMouseClicked(e -> {
-                    new WindowImpl(new MenuState(this.folderName)).launch(stage);
+                    if (this.engine.isPresent()) {
+                        this.engine.get().restart(stage);
+                    } else {
+                        new WindowImpl(new MenuState(this.folderName)).launch(stage);
+                    }
                 });
                 closeGame.setOnMouseClicked(e -> {
+                    this.engine.ifPresent(GameEngine::stop);
                     Platform.exit();
                     Runtime.getRuntime().exit(0);
                 });
@@ -100,7 +121,7 @@ public final class GameOverWinState implements WindowState {
                     }
                 });
                 score.setFont(Font.font("wavy", FontWeight.BOLD, FontPosture.REGULAR,
-                        (GameMap.BORDER_WIDTH / 3) * GameMap.SCREEN_PROP_X));
+                        (MapDimensions.BORDER_WIDTH / 3) * GameMap.SCREEN_PROP_X));
                 stage.setTitle("GAME OVER :(");
                 stage.setScene(scene);
                 stage.setFullScreen(true);
@@ -116,8 +137,8 @@ public final class GameOverWinState implements WindowState {
     }
 
     private void buttonManagement(final Button btn) {
-        btn.setPrefWidth(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X);
-        btn.setPrefHeight(GameMap.BORDER_HEIGHT / 3 * GameMap.SCREEN_PROP_Y);
+        btn.setPrefWidth(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X);
+        btn.setPrefHeight(MapDimensions.BORDER_HEIGHT / 3 * GameMap.SCREEN_PROP_Y);
         //Duration = 0.5 seconds
         final RotateTransition rotateTransition = new RotateTransition(Duration.millis(BUTTON_ANIM_DURATION), btn);
         rotateTransition.setByAngle(360);
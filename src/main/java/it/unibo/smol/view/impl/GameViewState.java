@@ -1,18 +1,28 @@
 package it.unibo.smol.view.impl;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
 import it.unibo.smol.controller.api.GameState;
 import it.unibo.smol.controller.input.KeyInputs;
 import it.unibo.smol.controller.input.MouseInputs;
+import it.unibo.smol.model.api.Entity;
+import it.unibo.smol.model.impl.WorldSnapshot;
+import it.unibo.smol.view.Frame;
+import it.unibo.smol.view.FrameBuffer;
 import it.unibo.smol.view.GameMap;
 import it.unibo.smol.view.LoadImgs;
+import it.unibo.smol.view.RenderMode;
 import it.unibo.smol.view.api.HealthBarTank;
 import it.unibo.smol.view.api.WindowState;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.ImageCursor;
@@ -43,13 +53,27 @@ import javafx.stage.WindowEvent;
 public class GameViewState implements WindowState {
 
     private static final String INIT_MESSAGE = "Be careful, Moles are coming for your greens" 
-        + "\n (F11 to enable and disable full screen)";
+        + "\n (F11 to enable and disable full screen, F5 to save the game and F9 to load it)";
     private static Logger logger = Logger.getLogger("myLog");
     private static final int SCORE_SIZE = 18;
+    /** Max time between the request of a restart and the first frame of the new game, in nanoseconds. */
+    private static final long RESTART_BUDGET = 250_000_000;
+    private static final long NANOS_PER_MILLI = 1_000_000;
 
     private final GameState gameState;
     private final KeyInputs keyEventHandler;
     private final MouseInputs mouseEventHandler;
+    private final RenderMode renderMode;
+    private final AtomicBoolean framePending;
+    private final AtomicLong renderedFrames;
+    private final AtomicLong droppedFrames;
+    private final AtomicLong skippedPulses;
+    private final FrameBuffer frames;
+    private AnimationTimer pulse;
+    private volatile double interpolation;
+    private volatile long restartRequest;
+    private volatile long lastRestartTime;
+    private Scene scene;
     private GraphicsDraw graphic;
     private GraphicsContext gContext;
     private boolean started;
@@ -66,9 +90,28 @@ public class GameViewState implements WindowState {
      */
     public GameViewState(final Optional<GameState> gameState,
         final Optional<KeyInputs> keyInputs, final Optional<MouseInputs> mouseInputs) {
+        this(gameState, keyInputs, mouseInputs, RenderMode.COALESCED);
+    }
+
+    /**
+     * constructor made to get the gamseState and the way frames are scheduled.
+     * @param gameState
+     * @param keyInputs
+     * @param mouseInputs
+     * @param renderMode when the frames are drawn
+     */
+    public GameViewState(final Optional<GameState> gameState,
+        final Optional<KeyInputs> keyInputs, final Optional<MouseInputs> mouseInputs, final RenderMode renderMode) {
         this.mouseEventHandler = mouseInputs.orElseThrow();
         this.keyEventHandler = keyInputs.orElseThrow();
         this.gameState = gameState.orElseThrow();
+        this.renderMode = renderMode;
+        this.framePending = new AtomicBoolean();
+        this.renderedFrames = new AtomicLong();
+        this.droppedFrames = new AtomicLong();
+        this.skippedPulses = new AtomicLong();
+        this.frames = new FrameBuffer();
+        this.interpolation = 1;
     }
 
     /**
@@ -92,24 +135,63 @@ public class GameViewState implements WindowState {
         }
     }
 
+    /**
+     * Save the game to the {@link WorldSnapshot} file, the snapshot is taken by the game loop between two ticks.
+     */
+    private void saveGame() {
+        gameState.getWorld().orElseThrow().submit(() -> {
+            try {
+                WorldSnapshot.write(gameState.saveSnapshot(), WorldSnapshot.getDefaultFile());
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "SnapshotError::", e);
+            }
+        });
+    }
+
+    /**
+     * Load the game from the {@link WorldSnapshot} file, the file is read here and restored by the game loop
+     * between two ticks.
+     */
+    private void loadGame() {
+        try {
+            final ByteBuffer snapshot = WorldSnapshot.read(WorldSnapshot.getDefaultFile());
+            gameState.getWorld().orElseThrow().submit(() -> {
+                try {
+                    gameState.loadSnapshot(snapshot);
+                } catch (IllegalArgumentException e) {
+                    logger.log(Level.WARNING, "SnapshotError::", e);
+                }
+            });
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "SnapshotError::", e);
+        }
+    }
+
     private void start(final Stage stage) throws IOException {
         final var root = new Pane();
-        final var scene = new Scene(root, GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1,
-                GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1, Color.BLACK);
-        final var canvas = new Canvas(GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1, GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
+        this.scene = new Scene(root, MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1, Color.BLACK);
+        final var canvas = new Canvas(MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
         this.gContext = canvas.getGraphicsContext2D();
         this.gContext.setImageSmoothing(false);
         this.graphic = new GraphicsDraw(Optional.of(gContext), gameState.getSkins());
         root.setBackground(new Background(new BackgroundImage(LoadImgs.getSprites(LoadImgs.BACKGROUND, gameState.getSkins()),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER,
-                new BackgroundSize(GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1, GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1,
+                new BackgroundSize(MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                        MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1,
                         false, false, false, false))));
         scene.setCursor(new ImageCursor(LoadImgs.getSprites(LoadImgs.HAMMER, Constant.KEY_COMMON_FOLDER)));
         scene.addEventHandler(KeyEvent.ANY, keyEventHandler);
+        mouseEventHandler.setScreenScale(GameMap.SCREEN_PROP_X, GameMap.SCREEN_PROP_Y);
         scene.addEventHandler(MouseEvent.ANY, mouseEventHandler);
         scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
             if (e.getCode().equals(KeyCode.F11)) {
                 stage.setFullScreen(!stage.isFullScreen());
+            } else if (e.getCode().equals(KeyCode.F5)) {
+                saveGame();
+            } else if (e.getCode().equals(KeyCode.F9)) {
+                loadGame();
             }
         });
         root.getChildren().add(canvas);
@@ -134,29 +216,181 @@ public class GameViewState implements WindowState {
             }
         });
         stage.getIcons().add(LoadImgs.getSprites(LoadImgs.LOGO, Constant.KEY_COMMON_FOLDER));
+        stage.iconifiedProperty().addListener((obs, oldValue, newValue) -> updatePause(stage));
+        stage.focusedProperty().addListener((obs, oldValue, newValue) -> updatePause(stage));
         stage.show();
+        if (renderMode == RenderMode.PULSE) {
+            this.pulse = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    if (framePending.get()) {
+                        drawFrame();
+                    } else {
+                        skippedPulses.incrementAndGet();
+                    }
+                }
+            };
+            this.pulse.start();
+        }
+    }
+
+    /**
+     * Pause the game while the stage is iconified or has lost the focus, resume it otherwise.
+     * The pulse is stopped while paused so the view doesn't wake up the JavaFX thread.
+     * @param stage The stage where the game is running
+     */
+    private void updatePause(final Stage stage) {
+        final boolean pause = stage.isIconified() || !stage.isFocused();
+        if (pause == gameState.isPaused() || gameState.isGameOver()) {
+            return;
+        }
+        if (pause) {
+            gameState.pause();
+            if (this.pulse != null) {
+                this.pulse.stop();
+            }
+        } else {
+            gameState.resume();
+            if (this.pulse != null) {
+                this.pulse.start();
+            }
+        }
     }
 
     /**
      * Repaint the graphic aspect of the view.
+     * If the previous frame has not been drawn yet, the request is merged into it and counted as dropped.
      * 
      * @param stage The stage where the game is running
      * @throws IOException Exception if the stage can't be rendered.
      */
     public void repaint(final Stage stage) throws IOException {
+        if (!framePending.compareAndSet(false, true)) {
+            droppedFrames.incrementAndGet();
+        } else if (renderMode == RenderMode.COALESCED) {
+            Platform.runLater(this::drawFrame);
+        }
+    }
+
+    /**
+     * Take the snapshot of the tick that just ended, must be called by the game loop at the end of every tick.
+     * The animations of the entities are updated here, so the JavaFX thread never reads the entities.
+     */
+    public void capture() {
+        final Frame frame = frames.getBack();
+        frame.clear(gameState.getScore(), healthBarData.updateHealthPercentage());
+        for (final Entity entity : gameState.getWorld().orElseThrow().getEntitySnapshot()) {
+            entity.getGraphicComp().ifPresent(g -> {
+                g.update();
+                frame.add(g.getImageName(), entity.getPreviousX(), entity.getPreviousY(),
+                    entity.getCurrentX(), entity.getCurrentY(), g.getWidth(), g.getHeight());
+            });
+        }
+        frames.publish();
+    }
+
+    /**
+     * Draw the last snapshot of the game, must be called by the JavaFX thread.
+     */
+    private void drawFrame() {
+        framePending.set(false);
+        final Frame frame = frames.take();
+        gContext.clearRect(0, 0, MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+            MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
+        updateHealthBar(frame.getHealth());
+        score.setText("Score: " + Integer.toString(frame.getScore()));
+        record.setText("Record: " + Integer.toString(gameState.getRecord()));
+        graphic.setInterpolation(interpolation);
+        for (int i = 0; i < frame.size(); i++) {
+            graphic.drawSprite(frame, i);
+        }
+        renderedFrames.incrementAndGet();
+        if (restartRequest != 0) {
+            logRestartTime();
+        }
+    }
+
+    /**
+     * Show the scene of the game again for a new game, reusing the scene and the sprites already loaded.
+     * The time from the request to the first frame of the new game is measured.
+     * @param stage The stage where the game is running
+     * @param request when the restart was requested, expressed in nanoseconds
+     */
+    public void restart(final Stage stage, final long request) {
+        this.restartRequest = request;
+        this.framePending.set(false);
+        this.interpolation = 1;
+        if (!started) {
+            return;
+        }
         Platform.runLater(() -> {
-            gContext.clearRect(0, 0, GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1,
-                GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
-            updateHealthBar();
-            score.setText("Score: " + Integer.toString(gameState.getScore()));
-            record.setText("Record: " + Integer.toString(gameState.getRecord()));
-            gameState.getWorld().orElseThrow().getEntities().stream()
-                    .filter(x -> x.getGraphicComp().isPresent())
-                    .map(x -> x.getGraphicComp())
-                    .forEach(x -> x.orElseThrow().render(graphic));
+            stage.setTitle("SMOL");
+            stage.setScene(scene);
+            stage.setFullScreen(true);
+            stage.show();
+            if (this.pulse != null) {
+                this.pulse.start();
+            }
         });
     }
 
+    private void logRestartTime() {
+        this.lastRestartTime = System.nanoTime() - restartRequest;
+        this.restartRequest = 0;
+        final Level level = lastRestartTime > RESTART_BUDGET ? Level.WARNING : Level.INFO;
+        logger.log(level, () -> String.format("first frame after restart in %d ms (budget %d ms)",
+            lastRestartTime / NANOS_PER_MILLI, RESTART_BUDGET / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Getter for the time the last restart took to draw its first frame.
+     * @return the time expressed in nanoseconds, {@code 0} if the game was never restarted
+     */
+    public long getLastRestartTime() {
+        return lastRestartTime;
+    }
+
+    /**
+     * Set how far the next frame is between the previous and the current tick of the game.
+     * @param alpha a value between 0 and 1
+     */
+    public void setInterpolation(final double alpha) {
+        this.interpolation = alpha;
+    }
+
+    /**
+     * Stop drawing frames on the JavaFX pulse, if the view uses it.
+     */
+    public void stop() {
+        if (this.pulse != null) {
+            Platform.runLater(this.pulse::stop);
+        }
+    }
+
+    /**
+     * Getter for the number of frames drawn.
+     * @return the rendered frames
+     */
+    public long getRenderedFrames() {
+        return renderedFrames.get();
+    }
+
+    /**
+     * Getter for the number of frame requests merged into a frame that was still pending.
+     * @return the dropped frames
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Getter for the number of JavaFX pulses that found no new frame to draw.
+     * @return the skipped pulses
+     */
+    public long getSkippedPulses() {
+        return skippedPulses.get();
+    }
+
     private void initializeHealthBar() {
         this.healthBarData = new HealthBarTankImpl(this.gameState);
         this.healthBar = new Rectangle(healthBarData.getCenter().getX(), 
@@ -168,8 +402,8 @@ public class GameViewState implements WindowState {
     }
 
     private void initializeScore() {
-        score = new Text((GameMap.MAP_WIDTH - GameMap.BORDER_WIDTH * 2) * GameMap.SCREEN_PROP_X,
-                GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 3, Integer.toString(gameState.getScore()));
+        score = new Text((MapDimensions.MAP_WIDTH - MapDimensions.BORDER_WIDTH * 2) * GameMap.SCREEN_PROP_X,
+                MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 3, Integer.toString(gameState.getScore()));
         score.setFont(Font.font("Impact", FontWeight.EXTRA_BOLD, SCORE_SIZE));
         score.setFill(Color.WHITE);
         score.setTextAlignment(TextAlignment.RIGHT);
@@ -179,7 +413,6 @@ public class GameViewState implements WindowState {
     }
 
     private Rectangle underHealthBar() {
-        this.healthBarData = new HealthBarTankImpl(this.gameState);
         final var underHealth = new Rectangle(healthBarData.getCenter().getX(), 
                                         healthBarData.getCenter().getY(), 
                                         healthBarData.getHealthBarWidth(), 
@@ -191,14 +424,13 @@ public class GameViewState implements WindowState {
         return underHealth;
     }
 
-    private void updateHealthBar() {
-        this.healthBarData = new HealthBarTankImpl(this.gameState);
-        this.healthBar.setWidth(healthBarData.getHealthBarWidth() * healthBarData.updateHealthPercentage());
+    private void updateHealthBar(final double health) {
+        this.healthBar.setWidth(healthBarData.getHealthBarWidth() * health);
     }
 
     private void initializeRecord() {
-        record = new Text(GameMap.BORDER_WIDTH * 2 * GameMap.SCREEN_PROP_X,
-            (GameMap.HEIGHT - GameMap.BORDER_HEIGHT / 3) * GameMap.SCREEN_PROP_Y,
+        record = new Text(MapDimensions.BORDER_WIDTH * 2 * GameMap.SCREEN_PROP_X,
+            (MapDimensions.HEIGHT - MapDimensions.BORDER_HEIGHT / 3) * GameMap.SCREEN_PROP_Y,
             "Record:" + Integer.toString(gameState.getRecord()));
         record.setFont(Font.font("Impact", FontWeight.EXTRA_BOLD, SCORE_SIZE));
         record.setFill(Color.WHITE);
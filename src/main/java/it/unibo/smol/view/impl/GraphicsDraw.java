@@ -4,10 +4,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
-import it.unibo.smol.model.api.Entity;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.view.Frame;
 import it.unibo.smol.view.GameMap;
 import it.unibo.smol.view.LoadImgs;
-import it.unibo.smol.view.api.GraphicComponent;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
@@ -18,6 +18,7 @@ public class GraphicsDraw {
 
     private final GraphicsContext g;
     private final Map<String, Image> images;
+    private double alpha;
 
     /**
      * constructor that gets the graphicContext used to draw and stores the images.
@@ -28,6 +29,7 @@ public class GraphicsDraw {
     public GraphicsDraw(final Optional<GraphicsContext> g, final String folderName) {
         this.g = g.orElseThrow();
         this.images = new HashMap<>();
+        this.alpha = 1;
         storeImages(folderName);
     }
 
@@ -36,11 +38,10 @@ public class GraphicsDraw {
      * @param folderName set folder name
      */
     private void storeImages(final String folderName) {
-        images.put(LoadImgs.ANGRY_MOLE, LoadImgs.getSprites(LoadImgs.ANGRY_MOLE, folderName));
-        images.put(LoadImgs.BOMB_MOLE, LoadImgs.getSprites(LoadImgs.BOMB_MOLE, folderName));
-        images.put(LoadImgs.HELM_MOLE, LoadImgs.getSprites(LoadImgs.HELM_MOLE, folderName));
-        images.put(LoadImgs.HELM_HIT_MOLE, LoadImgs.getSprites(LoadImgs.HELM_HIT_MOLE, folderName));
-        images.put(LoadImgs.MOLE, LoadImgs.getSprites(LoadImgs.MOLE, folderName));
+        for (final EnemyArchetype archetype : EnemyArchetype.all()) {
+            images.put(archetype.getSprite(), LoadImgs.getSprites(archetype.getSprite(), folderName));
+            archetype.getHitSprite().ifPresent(sprite -> images.put(sprite, LoadImgs.getSprites(sprite, folderName)));
+        }
         images.put(LoadImgs.PLAYER, LoadImgs.getSprites(LoadImgs.PLAYER, folderName));
         images.put(LoadImgs.W_TARGET, LoadImgs.getSprites(LoadImgs.W_TARGET, folderName));
         images.put(LoadImgs.GROUND, LoadImgs.getSprites(LoadImgs.GROUND, folderName));
@@ -51,16 +52,28 @@ public class GraphicsDraw {
     }
 
     /**
-     * draws an image from the previous stored images.
+     * sets how far the frame is between the previous and the current tick.
      * 
-     * @param entity           the entity to draw
-     * @param graphicComponent the graphic component of the entity to draw
+     * @param alpha 0 to draw the entities where they were at the previous tick, 1 to draw them at the current one
      */
-    public void drawSprite(final Entity entity, final GraphicComponent graphicComponent) {
-        g.drawImage(images.get(graphicComponent.getImageName()),
-                (entity.getCurrentX() - graphicComponent.getWidth() / 2) * GameMap.SCREEN_PROP_X,
-                (entity.getCurrentY() - graphicComponent.getHeight() / 2) * GameMap.SCREEN_PROP_Y,
-                graphicComponent.getWidth() * GameMap.SCREEN_PROP_X,
-                graphicComponent.getHeight() * GameMap.SCREEN_PROP_Y);
+    public void setInterpolation(final double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * draws an image from the previous stored images, interpolating the position of the sprite
+     * between the previous and the current tick.
+     * 
+     * @param frame the snapshot of the tick
+     * @param index the index of the sprite to draw in the frame
+     */
+    public void drawSprite(final Frame frame, final int index) {
+        final double x = frame.getX(index, alpha);
+        final double y = frame.getY(index, alpha);
+        g.drawImage(images.get(frame.getImage(index)),
+                (x - frame.getWidth(index) / 2) * GameMap.SCREEN_PROP_X,
+                (y - frame.getHeight(index) / 2) * GameMap.SCREEN_PROP_Y,
+                frame.getWidth(index) * GameMap.SCREEN_PROP_X,
+                frame.getHeight(index) * GameMap.SCREEN_PROP_Y);
     }
 }
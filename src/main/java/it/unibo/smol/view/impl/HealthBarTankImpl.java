@@ -1,8 +1,10 @@
 package it.unibo.smol.view.impl;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
 import it.unibo.smol.controller.api.GameState;
-import it.unibo.smol.controller.impl.GameStateImpl;
+import it.unibo.smol.model.Type;
+import it.unibo.smol.model.impl.EventBus;
 import it.unibo.smol.view.GameMap;
 import it.unibo.smol.view.api.HealthBarTank;
 import javafx.geometry.Point2D;
@@ -24,17 +26,29 @@ public class HealthBarTankImpl implements HealthBarTank {
     private static final int RED_VALUE_RGB = 0;
 
     private final Double centerWidth;
-    private Double currentLife;
-    private final GameState gameState;
+    /** The health of the plants in the world, updated by the events of the world. */
+    private int currentLife;
 
     /**
      * constructor that gets the gamestate and sets the centerWidth and the currentLife.
+     * The health of the plants is followed through the events of the world, from the next tick.
      * @param gameState
      */
     public HealthBarTankImpl(final GameState gameState) {
-        this.centerWidth = Double.valueOf(GameMap.BORDER_WIDTH / CENTER_WIDTH_PROPORTION) * GameMap.SCREEN_PROP_X;
-        this.currentLife = Double.valueOf(0);
-        this.gameState = new GameStateImpl(gameState);
+        this.centerWidth = Double.valueOf(MapDimensions.BORDER_WIDTH / CENTER_WIDTH_PROPORTION) * GameMap.SCREEN_PROP_X;
+        final EventBus events = gameState.getWorld().orElseThrow().getEvents();
+        events.subscribe(EventBus.Event.ENTITY_SPAWNED, (entity, health) -> {
+            if (entity.getType() == Type.HEALTH) {
+                currentLife += health;
+            }
+        });
+        events.subscribe(EventBus.Event.DAMAGE_APPLIED, (entity, damage) -> {
+            if (entity.getType() == Type.HEALTH) {
+                currentLife -= damage;
+            }
+        });
+        events.subscribe(EventBus.Event.PLANT_DESTROYED,
+            (plant, plantsLeft) -> currentLife -= plant.getHealthComp().orElseThrow().getCurrentHealth());
     }
 
     /**
@@ -43,7 +57,7 @@ public class HealthBarTankImpl implements HealthBarTank {
     @Override
     public Point2D getCenter() {
         return new Point2D(this.centerWidth,
-            (Double.valueOf(GameMap.BORDER_WIDTH / CENTER_HEIGHT_PROPORTION)) * GameMap.SCREEN_PROP_Y);
+            (Double.valueOf(MapDimensions.BORDER_WIDTH / CENTER_HEIGHT_PROPORTION)) * GameMap.SCREEN_PROP_Y);
     }
 
     /**
@@ -51,7 +65,7 @@ public class HealthBarTankImpl implements HealthBarTank {
      */
     @Override
     public Double getHealthBarWidth() {
-        return Double.valueOf(GameMap.BORDER_WIDTH * WIDTH_PROPORTION) * GameMap.SCREEN_PROP_X;
+        return Double.valueOf(MapDimensions.BORDER_WIDTH * WIDTH_PROPORTION) * GameMap.SCREEN_PROP_X;
     }
 
     /**
@@ -59,7 +73,7 @@ public class HealthBarTankImpl implements HealthBarTank {
      */
     @Override
     public Double getHealthBarHeight() {
-       return Double.valueOf(GameMap.BORDER_HEIGHT / HEIGHT_PROPORTION) * GameMap.SCREEN_PROP_Y;
+       return Double.valueOf(MapDimensions.BORDER_HEIGHT / HEIGHT_PROPORTION) * GameMap.SCREEN_PROP_Y;
     }
 
     /**
@@ -67,14 +81,7 @@ public class HealthBarTankImpl implements HealthBarTank {
      */
     @Override
     public Double updateHealthPercentage() {
-        this.currentLife = Double.valueOf(0);
-        gameState.getWorld().orElseThrow().getLifePlants().forEach(x -> {
-
-            if (x.getHealthComp().isPresent()) {
-                currentLife = currentLife + x.getHealthComp().get().getCurrentHealth();
-            }
-        });
-        return Double.valueOf(currentLife / (Constant.NUM_PLANTS * Constant.HEALTH_HP));
+        return Double.valueOf((double) currentLife / (Constant.NUM_PLANTS * Constant.HEALTH_HP));
     }
 
     /**
@@ -82,7 +89,7 @@ public class HealthBarTankImpl implements HealthBarTank {
      */
     @Override
     public Double getHealthBarBorder() {
-        return Double.valueOf(GameMap.BORDER_WIDTH / BORDER_PROPORTION) * GameMap.SCREEN_PROP_X;
+        return Double.valueOf(MapDimensions.BORDER_WIDTH / BORDER_PROPORTION) * GameMap.SCREEN_PROP_X;
     }
 
     /**
@@ -7,6 +7,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
 import it.unibo.smol.view.GameMap;
 import it.unibo.smol.view.LoadImgs;
 import it.unibo.smol.view.api.WindowState;
@@ -59,8 +60,8 @@ public final class InstructionsState implements WindowState {
          * Get fields initialization.
          */
         final Parent root = FXMLLoader.load(getClass().getResource("/layouts/Instructions.fxml"));
-        final Scene scene = new Scene(root, GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1,
-                GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
+        final Scene scene = new Scene(root, MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
         // children
         final BorderPane borderPane = (BorderPane) scene.lookup("#borderpane");
         final HBox boxTitle = (HBox) scene.lookup("#hboxtitle");
@@ -114,10 +115,10 @@ public final class InstructionsState implements WindowState {
          * Set fields.
          */
         vboxMovement.setPadding(new Insets(10 * GameMap.SCREEN_PROP_Y, 10 * GameMap.SCREEN_PROP_X,
-                                        10 * GameMap.SCREEN_PROP_Y, GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X));
-        vboxEnemies.setPadding(new Insets(10 * GameMap.SCREEN_PROP_Y, GameMap.HEIGHT / 2  * GameMap.SCREEN_PROP_X,
+                                        10 * GameMap.SCREEN_PROP_Y, MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X));
+        vboxEnemies.setPadding(new Insets(10 * GameMap.SCREEN_PROP_Y, MapDimensions.HEIGHT / 2  * GameMap.SCREEN_PROP_X,
                                         10 * GameMap.SCREEN_PROP_Y, 10 * GameMap.SCREEN_PROP_X));
-        vboxLife.setPadding(new Insets(10 * GameMap.SCREEN_PROP_Y, GameMap.HEIGHT / 2 * GameMap.SCREEN_PROP_X,
+        vboxLife.setPadding(new Insets(10 * GameMap.SCREEN_PROP_Y, MapDimensions.HEIGHT / 2 * GameMap.SCREEN_PROP_X,
                                         10 * GameMap.SCREEN_PROP_Y, 10 * GameMap.SCREEN_PROP_X));
 
         borderPaneLayoutSize(borderPane);
@@ -129,20 +130,20 @@ public final class InstructionsState implements WindowState {
         hBoxLayoutSize(boxButton);
 
         //resize images
-        imagesList.stream().forEach(l -> l.setFitHeight(GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y));
-        imagesList.stream().forEach(l -> l.setFitWidth(GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_X));
+        imagesList.stream().forEach(l -> l.setFitHeight(MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y));
+        imagesList.stream().forEach(l -> l.setFitWidth(MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_X));
 
-        enemiesList.stream().forEach(l -> l.setFitHeight(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_Y / 2));
-        enemiesList.stream().forEach(l -> l.setFitWidth(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X / 2));
+        enemiesList.stream().forEach(l -> l.setFitHeight(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_Y / 2));
+        enemiesList.stream().forEach(l -> l.setFitWidth(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X / 2));
 
         //images of the hammer
-        target1.setFitHeight(GameMap.SCREEN_PROP_Y * GameMap.BORDER_HEIGHT);
-        target1.setFitWidth(GameMap.SCREEN_PROP_X * GameMap.BORDER_WIDTH * 2);
-        target2.setFitHeight(GameMap.SCREEN_PROP_Y * GameMap.BORDER_HEIGHT);
-        target2.setFitWidth(GameMap.SCREEN_PROP_X * GameMap.BORDER_WIDTH * 3);
+        target1.setFitHeight(GameMap.SCREEN_PROP_Y * MapDimensions.BORDER_HEIGHT);
+        target1.setFitWidth(GameMap.SCREEN_PROP_X * MapDimensions.BORDER_WIDTH * 2);
+        target2.setFitHeight(GameMap.SCREEN_PROP_Y * MapDimensions.BORDER_HEIGHT);
+        target2.setFitWidth(GameMap.SCREEN_PROP_X * MapDimensions.BORDER_WIDTH * 3);
         //health bar
-        healthBar.setFitHeight(GameMap.SCREEN_PROP_Y * GameMap.BORDER_HEIGHT);
-        healthBar.setFitWidth(GameMap.SCREEN_PROP_X * GameMap.BORDER_WIDTH * 3);
+        healthBar.setFitHeight(GameMap.SCREEN_PROP_Y * MapDimensions.BORDER_HEIGHT);
+        healthBar.setFitWidth(GameMap.SCREEN_PROP_X * MapDimensions.BORDER_WIDTH * 3);
 
         title.setFont(Font.font("verdana", FontWeight.BOLD, FontPosture.REGULAR,
                 TITLE_SIZE * GameMap.SCREEN_PROP_X));
@@ -173,9 +174,10 @@ public final class InstructionsState implements WindowState {
      * @param hbox
      */
     private void hBoxLayoutSize(final HBox hbox) {
-        hbox.setPrefSize(GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1, GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
-        hbox.setMaxSize(GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1, GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
-        hbox.setMinSize(GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1, GameMap.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
+        hbox.setPrefSize(MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+            MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
+        hbox.setMaxSize(MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1, MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
+        hbox.setMinSize(MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1, MapDimensions.BORDER_HEIGHT * GameMap.SCREEN_PROP_Y / 2);
         hbox.autosize();
     }
 
@@ -185,9 +187,9 @@ public final class InstructionsState implements WindowState {
      */
     private void vBoxLayoutSize(final VBox vbox) {
         vbox.setSpacing(GameMap.SCREEN_PROP_X * SPACING);
-        vbox.setPrefSize(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
-        vbox.setMaxSize(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
-        vbox.setMinSize(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        vbox.setPrefSize(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        vbox.setMaxSize(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        vbox.setMinSize(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
         vbox.autosize();
     }
 
@@ -196,9 +198,9 @@ public final class InstructionsState implements WindowState {
      * @param pane
      */
     private void borderPaneLayoutSize(final BorderPane pane) {
-        pane.setPrefSize(GameMap.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
-        pane.setMaxSize(GameMap.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
-        pane.setMinSize(GameMap.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, GameMap.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        pane.setPrefSize(MapDimensions.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        pane.setMaxSize(MapDimensions.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
+        pane.setMinSize(MapDimensions.MAP_WIDTH * GameMap.SCREEN_PROP_X / 2, MapDimensions.MAP_HEIGHT * GameMap.SCREEN_PROP_Y);
         pane.autosize();
     }
 }
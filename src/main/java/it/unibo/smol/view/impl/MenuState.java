@@ -5,6 +5,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.MapDimensions;
 import it.unibo.smol.core.GameEngine;
 import it.unibo.smol.core.GameEngineImpl;
 import it.unibo.smol.view.GameMap;
@@ -78,8 +79,8 @@ public final class MenuState implements WindowState {
          * Get fields initialization.
          */
         final Parent root = FXMLLoader.load(getClass().getResource("/layouts/Menu.fxml"));
-        final Scene scene = new Scene(root, GameMap.WIDTH * GameMap.SCREEN_PROP_X - 1,
-                GameMap.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
+        final Scene scene = new Scene(root, MapDimensions.WIDTH * GameMap.SCREEN_PROP_X - 1,
+                MapDimensions.HEIGHT * GameMap.SCREEN_PROP_Y - 1);
         final VBox menuBox = (VBox) scene.lookup("#box");
         // children
         final Button startGame = (Button) scene.lookup("#start");
@@ -91,11 +92,11 @@ public final class MenuState implements WindowState {
         /*
          * Set fields.
          */
-        menuBox.setSpacing(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_Y / 3);
+        menuBox.setSpacing(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_Y / 3);
 
         // buttons behaviour
-        title.setFitWidth(GameMap.SCREEN_PROP_X * GameMap.BORDER_WIDTH * 3);
-        title.setFitHeight(GameMap.SCREEN_PROP_Y * GameMap.BORDER_HEIGHT * 3);
+        title.setFitWidth(GameMap.SCREEN_PROP_X * MapDimensions.BORDER_WIDTH * 3);
+        title.setFitHeight(GameMap.SCREEN_PROP_Y * MapDimensions.BORDER_HEIGHT * 3);
         startGame.setOnMouseClicked(e -> {
             gameEngine.setSkin(currentSkins);
             gameEngine.init(primaryStage);
@@ -160,8 +161,8 @@ public final class MenuState implements WindowState {
     }
 
     private void setButtonBaseSize(final ButtonBase btnBase) {
-        btnBase.setPrefWidth(GameMap.BORDER_WIDTH * GameMap.SCREEN_PROP_X * 2);
-        btnBase.setPrefHeight(GameMap.BORDER_WIDTH / 3);
+        btnBase.setPrefWidth(MapDimensions.BORDER_WIDTH * GameMap.SCREEN_PROP_X * 2);
+        btnBase.setPrefHeight(MapDimensions.BORDER_WIDTH / 3);
     }
 
     private void setDropDownImage(final MenuItem menuItem) {
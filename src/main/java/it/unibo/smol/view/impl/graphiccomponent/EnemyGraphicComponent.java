@@ -0,0 +1,67 @@
+package it.unibo.smol.view.impl.graphiccomponent;
+
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.view.LoadImgs;
+import it.unibo.smol.view.api.GraphicComponent;
+
+/**
+ * Class for the graphic of the enemies, with the sprites of their kind.
+ */
+public class EnemyGraphicComponent extends GraphicComponent {
+
+    private final EnemyArchetype archetype;
+    private boolean moving;
+    private boolean isHit;
+
+    /**
+     * Constructors inherited by the super-class {@link GraphicComponent}.
+     * @param width
+     * @param height
+     * @param archetype the kind of the enemy, that gives its sprites
+     */
+    public EnemyGraphicComponent(final double width, final double height, final EnemyArchetype archetype) {
+        super(width, height);
+        this.archetype = archetype;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAnimation() {
+        if (moving) {
+            setImageName(LoadImgs.GROUND);
+        } else if (isHit) {
+            setImageName(archetype.getHitSprite().orElseThrow());
+        } else {
+            setImageName(archetype.getSprite());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        isHit = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAnimation() {
+        if (super.getEntity() != null) {
+            if (super.getEntity().orElseThrow().getInputComp().orElseThrow().isHittable()) {
+                moving = false;
+            } else {
+                moving = true;
+            }
+            if (archetype.getHitSprite().isPresent()
+                && super.getEntity().orElseThrow().getHealthComp().orElseThrow().getCurrentHealth() < archetype.getHealth()) {
+                isHit = true;
+            }
+        }
+    }
+}
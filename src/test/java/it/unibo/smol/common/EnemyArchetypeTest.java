@@ -0,0 +1,58 @@
+package it.unibo.smol.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the kinds of moles read from the data file.
+ */
+class EnemyArchetypeTest {
+
+    /**
+     * Tests that the kinds of the file are read once and shared.
+     */
+    @Test
+    void bundledFile() {
+        final List<String> names = EnemyArchetype.all().stream().map(EnemyArchetype::getName).toList();
+        assertEquals(List.of("basic", "helmet", "angry", "bomb"), names);
+        assertSame(EnemyArchetype.get("helmet"), EnemyArchetype.all().get(1));
+        assertEquals(Optional.of("Hitted_Helmet_mole.gif"), EnemyArchetype.get("helmet").getHitSprite());
+        assertTrue(EnemyArchetype.get("basic").getHitSprite().isEmpty());
+        //the helmet mole spawns as many times as its own kind says
+        assertEquals(3, EnemyArchetype.get("helmet").getMaxSpawns());
+        assertEquals(EnemyArchetype.Behaviour.BOMB, EnemyArchetype.get("bomb").getBehaviour());
+        assertEquals(0.45, EnemyArchetype.get("helmet").getSpawnRate());
+        assertEquals(0.55, EnemyArchetype.get("helmet").getSpawnRate(2), 1e-9);
+        assertEquals(EnemyArchetype.get("basic").getSpawnRate(), EnemyArchetype.get("basic").getSpawnRate(2));
+        assertThrows(IllegalArgumentException.class, () -> EnemyArchetype.get("giant"));
+    }
+
+    /**
+     * Tests that a new kind is just a new line, and that the malformed lines are refused.
+     */
+    @Test
+    void readLines() throws IOException {
+        final var read = EnemyArchetype.read(new StringReader("# comment\n\ngiant, 500, 1, 0.5, giant.gif, , walk, 0.1, 0.01\n"));
+        final EnemyArchetype giant = read.get("giant");
+        assertEquals(500, giant.getHealth());
+        assertEquals(0.5, giant.getSpeed());
+        assertEquals(EnemyArchetype.Behaviour.WALK, giant.getBehaviour());
+        assertEquals(0.1, giant.getSpawnRate());
+        assertEquals(0.01, giant.getSpawnRateIncrement());
+        assertThrows(IllegalArgumentException.class,
+            () -> EnemyArchetype.read(new StringReader("giant,500,1,0.5,giant.gif,WALK\n")));
+        assertThrows(IllegalArgumentException.class,
+            () -> EnemyArchetype.read(new StringReader("giant,a lot,1,0.5,giant.gif,,WALK,0.1,0\n")));
+        assertThrows(IllegalArgumentException.class,
+            () -> EnemyArchetype.read(new StringReader("giant,500,1,0.5,giant.gif,,FLY,0.1,0\n")));
+    }
+}
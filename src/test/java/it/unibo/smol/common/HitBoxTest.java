@@ -1,12 +1,13 @@
 package it.unibo.smol.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import it.unibo.smol.common.hitbox.CircleHB;
 import it.unibo.smol.common.hitbox.RectangleHB;
-import javafx.geometry.Point2D;
 
 /**
  * test for the hitboxes.
@@ -18,8 +19,8 @@ class HitBoxTest {
      */
     @Test
     void collisionEventRectCircle() {
-        assertTrue(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Point2D(0, 0))
-            .isColliding(new CircleHB(new Point2D(0, 0), Constant.WEAPON_RADIUS)));
+        assertTrue(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Vector2D(0, 0))
+            .isColliding(new CircleHB(new Vector2D(0, 0), Constant.WEAPON_RADIUS)));
     }
 
     /**
@@ -27,8 +28,8 @@ class HitBoxTest {
      */
     @Test
     void collisionEventRectRect() {
-        assertTrue(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Point2D(0, 0))
-            .isColliding(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Point2D(0, 0))));
+        assertTrue(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Vector2D(0, 0))
+            .isColliding(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Vector2D(0, 0))));
     }
 
     /**
@@ -36,8 +37,8 @@ class HitBoxTest {
      */
     @Test
     void collisionEventCircleRect() {
-        assertTrue(new CircleHB(new Point2D(0, 0), Constant.WEAPON_RADIUS)
-            .isColliding(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Point2D(0, 0))));
+        assertTrue(new CircleHB(new Vector2D(0, 0), Constant.WEAPON_RADIUS)
+            .isColliding(new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Vector2D(0, 0))));
     }
 
     /**
@@ -45,7 +46,22 @@ class HitBoxTest {
      */
     @Test
     void collisionEventCircleCircle() {
-        assertTrue(new CircleHB(new Point2D(0, 0), Constant.WEAPON_RADIUS)
-            .isColliding(new CircleHB(new Point2D(0, 0), Constant.WEAPON_RADIUS)));
+        assertTrue(new CircleHB(new Vector2D(0, 0), Constant.WEAPON_RADIUS)
+            .isColliding(new CircleHB(new Vector2D(0, 0), Constant.WEAPON_RADIUS)));
+    }
+
+    /**
+     * Tests if moving the center of a hitbox moves its collisions.
+     */
+    @Test
+    void moveCenter() {
+        final HitBox rectangle = new RectangleHB(Constant.PLAYER_WIDTH, Constant.PLAYER_HEIGHT, new Vector2D(0, 0));
+        final HitBox circle = new CircleHB(new Vector2D(0, 0), Constant.WEAPON_RADIUS);
+        rectangle.setCenter(Constant.PLAYER_WIDTH * 2, Constant.PLAYER_HEIGHT * 2);
+        assertEquals(new Vector2D(Constant.PLAYER_WIDTH * 2, Constant.PLAYER_HEIGHT * 2), rectangle.getCenter());
+        assertFalse(rectangle.isColliding(circle));
+        circle.setCenter(rectangle.getCenter());
+        assertEquals(rectangle.getCenterX(), circle.getCenterX());
+        assertTrue(circle.isColliding(rectangle));
     }
 }
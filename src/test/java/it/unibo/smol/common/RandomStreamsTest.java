@@ -0,0 +1,75 @@
+package it.unibo.smol.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the random streams of the game.
+ */
+class RandomStreamsTest {
+
+    private static final long SEED = 42;
+    private static final int DRAWS = 16;
+
+    private static int[] draw(final RandomGenerator random) {
+        return IntStream.range(0, DRAWS).map(i -> random.nextInt()).toArray();
+    }
+
+    /**
+     * Tests that the same seed gives the same numbers, whatever the other subsystems draw.
+     */
+    @Test
+    void sameSeedSameNumbers() {
+        final var first = new RandomStreams(SEED);
+        final var second = new RandomStreams(SEED);
+        //drawing from a subsystem doesn't change the numbers of the others
+        draw(first.get(RandomStreams.Stream.PLANTS));
+        assertEquals(IntStream.of(draw(first.get(RandomStreams.Stream.SPAWNS))).boxed().toList(),
+            IntStream.of(draw(second.get(RandomStreams.Stream.SPAWNS))).boxed().toList());
+        assertEquals(IntStream.of(draw(first.split(RandomStreams.Stream.ENEMIES))).boxed().toList(),
+            IntStream.of(draw(second.split(RandomStreams.Stream.ENEMIES))).boxed().toList());
+        second.reseed(SEED + 1);
+        assertNotEquals(IntStream.of(draw(first.get(RandomStreams.Stream.PLANTS))).boxed().toList(),
+            IntStream.of(draw(second.get(RandomStreams.Stream.PLANTS))).boxed().toList());
+        assertEquals(SEED + 1, second.getSeed());
+    }
+
+    /**
+     * Tests that a saved state draws the numbers the streams would have drawn, without changing them.
+     */
+    @Test
+    void savedStateSameNumbers() {
+        final var streams = new RandomStreams(SEED);
+        draw(streams.get(RandomStreams.Stream.SPAWNS));
+        final ByteBuffer state = ByteBuffer.allocate(Long.BYTES + RandomStreams.Stream.values().length * GameRandom.BYTES);
+        streams.writeState(state);
+        final var restored = RandomStreams.readState(state.flip());
+        for (final var stream : RandomStreams.Stream.values()) {
+            assertEquals(IntStream.of(draw(streams.get(stream))).boxed().toList(),
+                IntStream.of(draw(restored.get(stream))).boxed().toList());
+        }
+        //restoring in place keeps the streams already handed out
+        final GameRandom held = streams.get(RandomStreams.Stream.PLANTS);
+        final var expected = draw(RandomStreams.readState(state.rewind()).get(RandomStreams.Stream.PLANTS));
+        streams.restore(RandomStreams.readState(state.rewind()));
+        assertEquals(IntStream.of(expected).boxed().toList(), IntStream.of(draw(held)).boxed().toList());
+        assertEquals(SEED, streams.getSeed());
+    }
+
+    /**
+     * Tests that a stream draws the numbers of {@link SplittableRandom} with the same seed.
+     */
+    @Test
+    void sameNumbersAsSplittableRandom() {
+        assertEquals(IntStream.of(draw(new SplittableRandom(SEED))).boxed().toList(),
+            IntStream.of(draw(new GameRandom(SEED))).boxed().toList());
+        assertEquals(new SplittableRandom(SEED).split().nextLong(), new GameRandom(SEED).split().nextLong());
+    }
+}
@@ -0,0 +1,62 @@
+package it.unibo.smol.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the slot map of the entities.
+ */
+class SlotMapTest {
+
+    private static final int VALUES = 100;
+
+    /**
+     * Tests that removing a value moves the last one in its place and keeps the handles valid.
+     */
+    @Test
+    void swapRemove() {
+        final var map = new SlotMap<String>();
+        final long first = map.insert("first");
+        final long second = map.insert("second");
+        final long third = map.insert("third");
+        assertTrue(map.remove(first));
+        assertEquals(2, map.size());
+        assertEquals("third", map.valueAt(0));
+        assertEquals("second", map.get(second));
+        assertEquals("third", map.get(third));
+        assertEquals(0, map.indexOf(third));
+    }
+
+    /**
+     * Tests that the handles of the removed values stay stale when their slots are reused.
+     */
+    @Test
+    void staleHandles() {
+        final var map = new SlotMap<Integer>();
+        final long[] handles = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            handles[i] = map.insert(i);
+        }
+        for (int i = 0; i < VALUES; i += 2) {
+            assertTrue(map.remove(handles[i]));
+            assertFalse(map.remove(handles[i]));
+        }
+        //the new value gets a free slot, with a new generation
+        final long reused = map.insert(-1);
+        assertNotEquals(handles[VALUES - 2], reused);
+        assertNull(map.get(handles[VALUES - 2]));
+        assertEquals(-1, map.get(reused));
+        for (int i = 1; i < VALUES; i += 2) {
+            assertEquals(i, map.get(handles[i]));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(reused));
+        assertNull(map.get(SlotMap.NO_HANDLE));
+    }
+}
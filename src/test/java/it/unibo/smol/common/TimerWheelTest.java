@@ -0,0 +1,78 @@
+package it.unibo.smol.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the timer wheel of the game.
+ */
+class TimerWheelTest {
+
+    private static final long MILLI = 1_000_000;
+    private static final long[] DELAYS = {1, 63, 64, 65, 4095, 4096, 300_000, 20_000_000};
+
+    private final TimerWheel wheel = new TimerWheel();
+    private final List<Long> fired = new ArrayList<>();
+
+    private void advanceMillis(final long millis) {
+        for (long i = 0; i < millis; i++) {
+            wheel.advance(MILLI);
+        }
+    }
+
+    /**
+     * Tests that the tasks run at their deadline, also when they are moved down from the upper levels.
+     */
+    @Test
+    void tasksRunOnTime() {
+        wheel.advance(0);
+        for (final long delay : DELAYS) {
+            wheel.schedule(() -> fired.add(wheel.getTime()), delay);
+        }
+        advanceMillis(DELAYS[DELAYS.length - 1]);
+        assertEquals(DELAYS.length, fired.size());
+        for (int i = 0; i < DELAYS.length; i++) {
+            assertEquals(DELAYS[i], fired.get(i));
+        }
+    }
+
+    /**
+     * Tests that cancelled tasks don't run and pausing stops the time.
+     */
+    @Test
+    void cancelAndPause() {
+        wheel.advance(0);
+        final var cancelled = wheel.schedule(() -> fired.add(-1L), 10);
+        final var kept = wheel.schedule(() -> fired.add(wheel.getTime()), 10);
+        cancelled.cancel();
+        wheel.pause();
+        advanceMillis(20);
+        assertTrue(fired.isEmpty());
+        wheel.resume();
+        advanceMillis(10);
+        assertEquals(List.of(10L), fired);
+        assertTrue(kept.isExpired());
+        assertFalse(cancelled.isExpired());
+        wheel.schedule(() -> fired.add(-1L), 5);
+        wheel.cancelAll();
+        advanceMillis(10);
+        assertEquals(1, fired.size());
+    }
+
+    /**
+     * Tests that the time scale changes how fast the game time runs.
+     */
+    @Test
+    void timeScale() {
+        wheel.setTimeScale(2);
+        wheel.schedule(() -> fired.add(wheel.getTime()), 10);
+        advanceMillis(5);
+        assertEquals(List.of(10L), fired);
+    }
+}
@@ -0,0 +1,72 @@
+package it.unibo.smol.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the loading and the reloading of the tuning profile.
+ */
+class TuningProfileTest {
+
+    private static final String PROFILE = "tuning-test";
+    private static final long MODIFIED = 1_000_000_000L;
+    private final File file = new File(System.getProperty("user.home") + File.separator + "Smol", PROFILE + ".properties");
+
+    @AfterEach
+    void restoreDefaults() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        TuningProfile.load(TuningProfile.DEFAULT_PROFILE);
+    }
+
+    /**
+     * Tests that the values of the file are used and the bad ones fall back to the default.
+     * @throws IOException if the profile can't be written
+     */
+    @Test
+    void loadAndReload() throws IOException {
+        file.getParentFile().mkdirs();
+        Files.writeString(file.toPath(), "ups=120\nfps=-3\nenemy.width=abc\n", StandardCharsets.UTF_8);
+        TuningProfile.load(PROFILE);
+        assertEquals(120, TuningProfile.getInt(Tunable.UPS));
+        assertEquals(Tunable.FPS.getDefault(), TuningProfile.get(Tunable.FPS));
+        assertEquals(Tunable.ENEMY_WIDTH.getDefault(), TuningProfile.get(Tunable.ENEMY_WIDTH));
+        assertFalse(TuningProfile.reloadIfChanged());
+
+        Files.writeString(file.toPath(), "ups=60\n", StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(MODIFIED));
+        assertTrue(TuningProfile.reloadIfChanged());
+        assertEquals(60, TuningProfile.getInt(Tunable.UPS));
+    }
+
+    /**
+     * Tests that a profile whose spawn times don't fit together is rejected and the previous values are kept.
+     * @throws IOException if the profile can't be written
+     */
+    @Test
+    void rejectInconsistent() throws IOException {
+        file.getParentFile().mkdirs();
+        Files.writeString(file.toPath(), "ups=120\nseed=9007199254740993\n", StandardCharsets.UTF_8);
+        TuningProfile.load(PROFILE);
+        assertEquals(9_007_199_254_740_993L, TuningProfile.getSeed());
+
+        Files.writeString(file.toPath(), "ups=60\nmin.time.spawn=4000\nmax.time.spawn=3000\n", StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(MODIFIED));
+        assertFalse(TuningProfile.reloadIfChanged());
+        assertEquals(120, TuningProfile.getInt(Tunable.UPS));
+
+        Files.writeString(file.toPath(), "ups=60\ndec.time.spawn=1000\n", StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(MODIFIED * 2));
+        assertFalse(TuningProfile.reloadIfChanged());
+        assertEquals(120, TuningProfile.getInt(Tunable.UPS));
+        assertEquals(Tunable.DEC_TIME_SPAWN.getDefault(), TuningProfile.get(Tunable.DEC_TIME_SPAWN));
+    }
+}
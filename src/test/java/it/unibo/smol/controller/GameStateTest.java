@@ -4,15 +4,30 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.GameRandom;
+import it.unibo.smol.common.RandomStreams;
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.controller.api.GameState;
 import it.unibo.smol.controller.impl.GameStateImpl;
 import it.unibo.smol.controller.input.KeyInputs;
@@ -20,13 +35,27 @@ import it.unibo.smol.controller.input.MouseInputs;
 import it.unibo.smol.model.Type;
 import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.World;
+import it.unibo.smol.model.impl.EventBus;
 import it.unibo.smol.model.impl.WorldImpl;
+import it.unibo.smol.model.impl.WorldSnapshot;
 
 /**
  * Test for game state.
  */
 class GameStateTest {
 
+    private static final int TICKS = 300;
+    private static final long TICK_NANOS = 16_000_000;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final int MOLES = 200;
+    private static final int CHECKPOINTS = 6;
+    private static final long SEED = 42;
+    private static final int RESTORES = 50;
+    private static final int WARM_UP = 200;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int RANDOM_BYTES = Long.BYTES + RandomStreams.Stream.values().length * GameRandom.BYTES;
+    private static final int SPAWNER_BYTES = Integer.BYTES + 1 + Integer.BYTES * 3 + Long.BYTES;
+
     private final World w = new WorldImpl();
     private final Optional<KeyInputs> keyInputs = Optional.of(new KeyInputs());
     private GameState gs;
@@ -81,4 +110,215 @@ class GameStateTest {
 
         assertTrue(gs.isGameOver());
     }
+
+    @Test
+    void testReset() {
+        this.gs.initGame();
+        final var w2 = gs.getWorld().orElseThrow();
+        w2.incScore(Constant.ENEMY_SCORE);
+        this.gs.reset();
+        //the same world is emptied for the new game
+        assertTrue(w2.getEntities().isEmpty());
+        assertEquals(0, gs.getScore());
+        this.gs.initGame();
+        assertEquals(Constant.NUM_PLANTS, w2.getPlantCount());
+        assertFalse(gs.isGameOver());
+    }
+
+    @Test
+    void testSnapshot(@TempDir final Path folder) throws IOException {
+        this.gs.initGame();
+        final World first = gs.getWorld().orElseThrow();
+        for (final EnemyArchetype archetype : EnemyArchetype.all()) {
+            first.addEntity(gs.getEntityFactory().createEnemy(archetype, new Vector2D(1, 1), first));
+        }
+        first.incScore(Constant.ENEMY_SCORE);
+        tick(first, TICKS);
+        final Path file = folder.resolve(WorldSnapshot.FILE_NAME);
+        WorldSnapshot.write(gs.saveSnapshot(), file);
+
+        final World second = new WorldImpl();
+        second.setInputs(keyInputs, Optional.of(new MouseInputs(keyInputs)));
+        final GameState restored = new GameStateImpl(second);
+        restored.initGame();
+        final ByteBuffer snapshot = WorldSnapshot.read(file);
+        restored.loadSnapshot(snapshot);
+        final World copy = restored.getWorld().orElseThrow();
+        assertEquals(gs.getScore(), restored.getScore());
+        assertEquals(first.getPlantCount(), copy.getPlantCount());
+        assertEquals(describe(first), describe(copy));
+        //the restored game goes on as the one that was saved
+        tick(first, TICKS);
+        tick(copy, TICKS);
+        assertEquals(describe(first), describe(copy));
+
+        //a damaged snapshot doesn't change the game
+        final List<String> before = describe(copy);
+        snapshot.put(snapshot.limit() - 1, (byte) (snapshot.get(snapshot.limit() - 1) + 1));
+        assertThrows(IllegalArgumentException.class, () -> restored.loadSnapshot(snapshot));
+        assertEquals(before, describe(copy));
+    }
+
+    @Test
+    void testRestoreKeepsThePlants() {
+        this.gs.initGame();
+        final World world = gs.getWorld().orElseThrow();
+        final AtomicInteger gameOvers = new AtomicInteger();
+        final AtomicInteger destroyed = new AtomicInteger();
+        //the health of the plants as the health bar follows it
+        final AtomicInteger life = new AtomicInteger();
+        world.addGameOverListener(gameOvers::incrementAndGet);
+        world.getEvents().subscribe(EventBus.Event.ENTITY_SPAWNED, (entity, health) -> {
+            if (entity.getType() == Type.HEALTH) {
+                life.addAndGet(health);
+            }
+        });
+        world.getEvents().subscribe(EventBus.Event.DAMAGE_APPLIED, (entity, damage) -> {
+            if (entity.getType() == Type.HEALTH) {
+                life.addAndGet(-damage);
+            }
+        });
+        world.getEvents().subscribe(EventBus.Event.PLANT_DESTROYED, (plant, plantsLeft) -> {
+            destroyed.incrementAndGet();
+            life.addAndGet(-plant.getHealthComp().orElseThrow().getCurrentHealth());
+        });
+        tick(world, 1);
+        final ByteBuffer snapshot = gs.saveSnapshot();
+        final List<Entity> plants = world.getLifePlants();
+        plants.get(0).getHealthComp().orElseThrow().setHealth(-1);
+        world.remove(plants.get(1));
+        tick(world, 1);
+        assertEquals(1, destroyed.get());
+
+        gs.loadSnapshot(snapshot);
+        tick(world, 1);
+        //the plants still there are kept, the missing one is back, and the game was never over
+        assertEquals(0, gameOvers.get());
+        assertEquals(1, destroyed.get());
+        assertEquals(Constant.NUM_PLANTS, world.getPlantCount());
+        assertTrue(world.getLifePlants().contains(plants.get(0)));
+        assertEquals(world.getLifePlants().stream().mapToInt(x -> x.getHealthComp().orElseThrow().getCurrentHealth()).sum(),
+            life.get());
+    }
+
+    @Test
+    void testCheckpointsDontChangeTheGame() {
+        final GameState checkpointed = seededGame();
+        final GameState plain = seededGame();
+        for (int i = 0; i < CHECKPOINTS; i++) {
+            checkpointed.saveSnapshot();
+            tick(checkpointed.getWorld().orElseThrow(), TICKS / CHECKPOINTS);
+            tick(plain.getWorld().orElseThrow(), TICKS / CHECKPOINTS);
+        }
+        //the same seed gives the same game, with or without the snapshots taken while it runs
+        assertEquals(describe(plain.getWorld().orElseThrow()), describe(checkpointed.getWorld().orElseThrow()));
+        assertEquals(plain.getScore(), checkpointed.getScore());
+    }
+
+    private GameState seededGame() {
+        final World world = new WorldImpl();
+        world.setInputs(keyInputs, Optional.of(new MouseInputs(keyInputs)));
+        world.getRandom().reseed(SEED);
+        final GameState game = new GameStateImpl(world);
+        game.initGame();
+        for (final EnemyArchetype archetype : EnemyArchetype.all()) {
+            world.addEntity(game.getEntityFactory().createEnemy(archetype, new Vector2D(1, 1), world));
+        }
+        return game;
+    }
+
+    @Test
+    void testInvalidSnapshot() {
+        this.gs.initGame();
+        final World world = gs.getWorld().orElseThrow();
+        world.addEntity(gs.getEntityFactory().createEnemy(EnemyArchetype.get("basic"), new Vector2D(1, 1), world));
+        final ByteBuffer snapshot = gs.saveSnapshot();
+        final List<String> before = describe(world);
+
+        //a kind of mole that isn't in the file any more, with a right checksum
+        final ByteBuffer unknown = copyOf(snapshot);
+        final byte[] name = "basic".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i + name.length <= unknown.limit(); i++) {
+            if (unknown.slice(i, name.length).equals(ByteBuffer.wrap(name))) {
+                unknown.put(i, (byte) 'z');
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> gs.loadSnapshot(seal(unknown)));
+        assertEquals(before, describe(world));
+        assertFalse(gs.isGameOver());
+
+        //a type of entity that doesn't exist, with a right checksum
+        final ByteBuffer type = copyOf(snapshot);
+        type.put(firstEntity(type), Byte.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> gs.loadSnapshot(seal(type)));
+        assertEquals(before, describe(world));
+        assertFalse(gs.isGameOver());
+    }
+
+    @Test
+    void testRestoreTime() {
+        this.gs.initGame();
+        final World world = gs.getWorld().orElseThrow();
+        for (int i = 0; i < MOLES; i++) {
+            world.addEntity(gs.getEntityFactory().createEnemy(EnemyArchetype.all().get(i % EnemyArchetype.all().size()),
+                new Vector2D(1, 1), world));
+        }
+        tick(world, 1);
+        final ByteBuffer snapshot = gs.saveSnapshot();
+        final long[] times = new long[RESTORES];
+        for (int i = 0; i < WARM_UP + RESTORES; i++) {
+            final long start = System.nanoTime();
+            gs.loadSnapshot(snapshot);
+            if (i >= WARM_UP) {
+                times[i - WARM_UP] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(times);
+        //the median restore of a crowded game fits in half a frame, at the frame rate of the game
+        final double budget = NANOS_PER_SECOND / TuningProfile.get(Tunable.FPS) / 2;
+        assertTrue(times[RESTORES / 2] < budget, "restore took " + times[RESTORES / 2] + " ns, budget " + budget + " ns");
+    }
+
+    private static ByteBuffer copyOf(final ByteBuffer snapshot) {
+        final ByteBuffer copy = ByteBuffer.allocate(snapshot.remaining());
+        copy.put(snapshot.duplicate()).flip();
+        return copy;
+    }
+
+    //write again the checksum of a changed snapshot, so only the body can make it fail
+    private static ByteBuffer seal(final ByteBuffer snapshot) {
+        final CRC32 crc = new CRC32();
+        crc.update(snapshot.duplicate().position(HEADER_BYTES));
+        snapshot.putInt(HEADER_BYTES - Integer.BYTES, (int) crc.getValue());
+        return snapshot;
+    }
+
+    //the position of the type of the first entity: after the header, the random streams, the score,
+    //the state of the creation of the enemies and the number of entities
+    private static int firstEntity(final ByteBuffer snapshot) {
+        final ByteBuffer in = snapshot.duplicate().position(HEADER_BYTES + RANDOM_BYTES + Integer.BYTES
+            + SPAWNER_BYTES);
+        final int rates = in.getInt();
+        for (int i = 0; i < rates; i++) {
+            final int name = Short.toUnsignedInt(in.getShort());
+            in.position(in.position() + name + Double.BYTES);
+        }
+        return in.position() + Integer.BYTES;
+    }
+
+    private static void tick(final World world, final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            world.applyCommands();
+            world.getTimers().advance(TICK_NANOS);
+            world.updateWorld();
+        }
+    }
+
+    private static List<String> describe(final World world) {
+        return world.getEntitySnapshot().stream()
+            .filter(e -> e.getType() != Type.WALL)
+            .map(e -> e.getType() + " " + e.getCurrentX() + " " + e.getCurrentY() + " "
+                + e.getHealthComp().map(h -> h.getCurrentHealth()).orElse(0))
+            .toList();
+    }
 }
@@ -8,8 +8,8 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.model.impl.WorldImpl;
-import javafx.geometry.Point2D;
 
 /**
  * tests the Enemy Inputs class.
@@ -24,11 +24,11 @@ class EnemyInputTest {
      */
     @Test
     void enemySpawnStatus() {
-        enemyInput = new EnemyInput(MIN_TIMES_ENEMY_CAN_SPAWN, Optional.of(new WorldImpl()), new Point2D(0, 0), 0);
+        enemyInput = new EnemyInput(MIN_TIMES_ENEMY_CAN_SPAWN, Optional.of(new WorldImpl()), new Vector2D(0, 0), 0);
         assertTrue(enemyInput.isEnemyUnder());
         assertFalse(enemyInput.isEnemyOnPlant());
-        enemyInput.setEnemyPosition(new Point2D(1, 1));
-        assertEquals(new Point2D(1, 1), enemyInput.getEnemyPosition());
+        enemyInput.setEnemyPosition(new Vector2D(1, 1));
+        assertEquals(new Vector2D(1, 1), enemyInput.getEnemyPosition());
     }
 
     /**
@@ -36,7 +36,7 @@ class EnemyInputTest {
      */
     @Test
     void enemyGetsUp() {
-        enemyInput = new EnemyInput(MIN_TIMES_ENEMY_CAN_SPAWN, Optional.of(new WorldImpl()), new Point2D(0, 0), 0);
+        enemyInput = new EnemyInput(MIN_TIMES_ENEMY_CAN_SPAWN, Optional.of(new WorldImpl()), new Vector2D(0, 0), 0);
         enemyInput.enemyIsUp();
         assertEquals(1, enemyInput.getEnemyTimesSpawn());
     }
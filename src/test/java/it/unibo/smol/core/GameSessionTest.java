@@ -0,0 +1,120 @@
+package it.unibo.smol.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.smol.common.Tunable;
+import it.unibo.smol.common.TuningProfile;
+import it.unibo.smol.controller.api.GameState;
+import it.unibo.smol.controller.impl.GameStateImpl;
+import it.unibo.smol.controller.input.KeyInputs;
+import it.unibo.smol.controller.input.MouseInputs;
+import it.unibo.smol.model.impl.WorldImpl;
+
+/**
+ * test for the lifecycle of the game sessions.
+ */
+class GameSessionTest {
+
+    private static final int SESSIONS = 20;
+    private static final int TICKS = 50;
+    private static final String PROFILE = "session-test";
+    /** A budget no tick of the test gets close to, so the watchdog runs without reporting. */
+    private static final int TICK_BUDGET = 100_000;
+    private final File file = new File(System.getProperty("user.home") + File.separator + "Smol", PROFILE + ".properties");
+
+    @BeforeEach
+    void enableWatchdog() throws IOException {
+        file.getParentFile().mkdirs();
+        Files.writeString(file.toPath(), Tunable.WATCHDOG.getKey() + "=1\n" + Tunable.TICK_BUDGET.getKey() + "="
+            + TICK_BUDGET + "\n", StandardCharsets.UTF_8);
+        TuningProfile.load(PROFILE);
+    }
+
+    @AfterEach
+    void restoreDefaults() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        TuningProfile.load(TuningProfile.DEFAULT_PROFILE);
+    }
+
+    /**
+     * The live threads, but the workers of the common pool that the JVM starts and stops by itself.
+     * @return the live threads
+     */
+    private static Set<Thread> liveThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(Thread::isAlive)
+            .filter(thread -> !thread.getName().startsWith("ForkJoinPool.commonPool"))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Plays a game for a few ticks in a session, on the game loop without a view and with its watchdog, then closes it.
+     * @param gameState the state of the game, restarted like the game over screen does
+     * @return the ticks the loop ran
+     */
+    private long playSession(final GameState gameState) {
+        gameState.reset();
+        final GameLoop loop;
+        try (GameSession session = new GameSession(gameState.getWorld().orElseThrow().getTimers())) {
+            loop = session.start(new GameLoop(Optional.of(gameState), session));
+            LockSupport.parkNanos((long) (TICKS * TimeUnit.SECONDS.toNanos(1) / TuningProfile.get(Tunable.UPS)));
+        }
+        //the session joined the loop, so its statistics can be read
+        assertFalse(loop.isAlive());
+        return loop.getStatistics().getTotalTicks();
+    }
+
+    /**
+     * Tests that playing and restarting many games doesn't leave threads behind.
+     */
+    @Test
+    void threadCountStaysFlat() {
+        final var world = new WorldImpl();
+        final Optional<KeyInputs> keyInputs = Optional.of(new KeyInputs());
+        world.setInputs(keyInputs, Optional.of(new MouseInputs(keyInputs, world.getTimers())));
+        final GameState gameState = new GameStateImpl(world);
+        //the first session starts the threads the JVM creates lazily
+        assertTrue(playSession(gameState) > 0);
+        final Set<Thread> threads = liveThreads();
+        for (int i = 0; i < SESSIONS; i++) {
+            assertTrue(playSession(gameState) > 0);
+            //the threads of the other tests can end meanwhile, but no new one is left alive
+            final Set<Thread> left = liveThreads();
+            left.removeAll(threads);
+            assertEquals(Set.of(), left);
+        }
+    }
+
+    /**
+     * Tests that a closed session can't start anything and can be closed again.
+     */
+    @Test
+    void closedSession() {
+        final var session = new GameSession();
+        final var closed = new AtomicInteger();
+        session.onClose(closed::incrementAndGet);
+        session.close();
+        session.close();
+        assertEquals(1, closed.get());
+        assertTrue(session.isClosed());
+        assertThrows(IllegalStateException.class, () -> session.start(new Thread(() -> { })));
+    }
+}
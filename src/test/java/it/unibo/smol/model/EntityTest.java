@@ -5,10 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.model.api.PhysicsComponent;
 import it.unibo.smol.model.impl.EntityFactoryImpl;
 import it.unibo.smol.model.impl.WorldImpl;
-import javafx.geometry.Point2D;
 
 /**
  * test class for the enetities.
@@ -19,7 +20,7 @@ class EntityTest {
 
     @Test
     void testEntityComponent() {
-        final var basicEnemy = new EntityFactoryImpl().createBasicEnemy(new Point2D(0, 0), world);
+        final var basicEnemy = new EntityFactoryImpl().createEnemy(EnemyArchetype.get("basic"), new Vector2D(0, 0), world);
         //Check entity type
         assertEquals(Type.ENEMY, basicEnemy.getType());
         //Check physics component
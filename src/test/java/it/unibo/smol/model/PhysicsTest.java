@@ -8,6 +8,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import it.unibo.smol.common.HitBox;
+import it.unibo.smol.common.Vector2D;
 import it.unibo.smol.common.hitbox.CircleHB;
 import it.unibo.smol.model.api.Entity;
 import it.unibo.smol.model.api.World;
@@ -18,7 +19,6 @@ import it.unibo.smol.model.impl.physicscomponent.EmptyPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.EnemyPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.LifePlantsPhysicsComponent;
 import it.unibo.smol.model.impl.physicscomponent.PlayerPhysicsComponent;
-import javafx.geometry.Point2D;
 
 /**
  * Physics test for collision.
@@ -27,8 +27,8 @@ class PhysicsTest {
     private final World w = new WorldImpl();
     private static final double X1 = 1, X2 = 3;
     private static final double Y1 = 3, Y2 = 3;
-    private final HitBox hb1 = new CircleHB(new Point2D(X1, Y1), 5);
-    private final HitBox hb2 = new CircleHB(new Point2D(X2, Y2), 5);
+    private final HitBox hb1 = new CircleHB(new Vector2D(X1, Y1), 5);
+    private final HitBox hb2 = new CircleHB(new Vector2D(X2, Y2), 5);
 
     @Test
     void collisionEnemyPlants() {
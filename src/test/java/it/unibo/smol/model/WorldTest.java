@@ -3,16 +3,54 @@ package it.unibo.smol.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import it.unibo.smol.common.Constant;
+import it.unibo.smol.common.Directions;
+import it.unibo.smol.common.EnemyArchetype;
+import it.unibo.smol.common.Vector2D;
+import it.unibo.smol.common.hitbox.RectangleHB;
+import it.unibo.smol.controller.input.KeyInputs;
+import it.unibo.smol.controller.input.MouseInputs;
+import it.unibo.smol.model.api.Entity;
+import it.unibo.smol.model.impl.EntityColumns;
 import it.unibo.smol.model.impl.EntityFactoryImpl;
+import it.unibo.smol.model.impl.EntityImpl;
+import it.unibo.smol.model.impl.EventBus;
+import it.unibo.smol.model.impl.HealthComponent;
 import it.unibo.smol.model.impl.WorldImpl;
-import javafx.geometry.Point2D;
+import it.unibo.smol.model.impl.physicscomponent.EnemyPhysicsComponent;
+import it.unibo.smol.model.impl.physicscomponent.WeaponPhysicsComponent;
 
 class WorldTest {
 
+    private static final int MOLES = 300;
+    private static final int TICKS = 5;
+    private static final int PLANTS = 100;
+    private static final int BENCH_TICKS = 200;
+    private static final double PLAYER_X = 400;
+    private static final double PLAYER_Y = 400;
+    private static final double WALL_WIDTH = 20;
+    private static final double DELTA = 1e-9;
+    /** Bytes allowed per tick whatever the number of entities, e.g. the buffers of the JIT. */
+    private static final long ALLOCATION_SLACK = 256;
     private final WorldImpl world = new WorldImpl();
 
     @Test
@@ -30,17 +68,332 @@ class WorldTest {
     @Test
     void testAddRemove() {
         //add a basic mole and a life plants in the same position
-        world.addEntity(new EntityFactoryImpl().createBasicEnemy(new Point2D(0, 0), world));
+        world.addEntity(new EntityFactoryImpl().createEnemy(EnemyArchetype.get("basic"), new Vector2D(0, 0), world));
         world.addEntity(new EntityFactoryImpl().createLifePlants(0, 0, world));
         assertFalse(world.getEntities().isEmpty());
-        //Check if there are plants occupied
-        assertFalse(world.occupiedPlants().isEmpty());
+        //Check if the plant can be claimed by the moles
+        assertEquals(1, world.getPlantReservations().getFree());
         //Check the last entity add to the world
         assertTrue(world.getLifePlants().contains(world.getEntities().getLast()));
         //Check remove entity
         world.remove(world.getLifePlants().get(0));
         assertTrue(world.getLifePlants().isEmpty());
-        world.remove(world.getMoles().remove(0));
+        world.remove(world.getMoles().get(0));
         assertTrue(world.getMoles().isEmpty());
     }
+
+    @Test
+    void testPlantCount() {
+        final var gameOvers = new AtomicInteger();
+        world.addGameOverListener(gameOvers::incrementAndGet);
+        final var plant = new EntityFactoryImpl().createLifePlants(0, 0, world);
+        world.addEntity(plant);
+        world.addFirstEntity(new EntityFactoryImpl().createLifePlants(1, 1, world));
+        assertEquals(2, world.getPlantCount());
+        //removing the same plant twice must count it once
+        world.remove(plant);
+        world.remove(plant);
+        assertEquals(1, world.getPlantCount());
+        assertEquals(0, gameOvers.get());
+        world.remove(world.getLifePlants().get(0));
+        assertEquals(0, world.getPlantCount());
+        assertEquals(1, gameOvers.get());
+    }
+
+    @Test
+    void testCommandsFromOtherThreads() throws InterruptedException, ExecutionException {
+        //the test thread becomes the writer of the world
+        world.applyCommands();
+        final var executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            world.addEntity(new EntityFactoryImpl().createLifePlants(0, 0, world));
+            world.incScore(1);
+        }).get();
+        executor.shutdown();
+        //the changes are queued until the writer applies them
+        assertTrue(world.getEntities().isEmpty());
+        assertEquals(0, world.getScore());
+        world.applyCommands();
+        assertEquals(1, world.getPlantCount());
+        assertEquals(1, world.getScore());
+    }
+
+    @Test
+    void testSnapshotPublishedAtTheEndOfTheTick() throws InterruptedException, ExecutionException {
+        //the test thread becomes the writer of the world
+        world.applyCommands();
+        world.addEntity(new EntityFactoryImpl().createLifePlants(0, 0, world));
+        final var executor = Executors.newSingleThreadExecutor();
+        //the writer sees its change at once, the other threads once the tick is over
+        assertEquals(1, world.getEntitySnapshot().size());
+        assertEquals(0, executor.submit(() -> world.getEntitySnapshot().size()).get());
+        world.updateWorld();
+        assertEquals(1, executor.submit(() -> world.getEntitySnapshot().size()).get());
+        assertEquals(1, executor.submit(() -> world.getLifePlants().size()).get());
+        executor.shutdown();
+    }
+
+    @Test
+    void testWriterSetBeforeItStarts() throws InterruptedException {
+        final Thread loop = new Thread(world::applyCommands);
+        //the loop is the writer as soon as it is built, so the changes made meanwhile wait for it
+        world.setWriter(loop);
+        world.incScore(1);
+        assertEquals(0, world.getScore());
+        loop.start();
+        loop.join();
+        assertEquals(1, world.getScore());
+        //after a reset the world has no writer until the next loop
+        world.reset();
+        world.incScore(1);
+        assertEquals(1, world.getScore());
+    }
+
+    /**
+     * Fill a world with plants and moles piled on them, plus a weapon hitting some of the moles.
+     * @param target the world to fill
+     */
+    private static void crowd(final WorldImpl target) {
+        final var factory = new EntityFactoryImpl();
+        for (int i = 0; i < Constant.NUM_PLANTS; i++) {
+            target.addEntity(factory.createLifePlants(i * 100, 0, target));
+        }
+        for (int i = 0; i < MOLES; i++) {
+            final double x = i % Constant.NUM_PLANTS * 100 + i % 7;
+            target.addEntity(new EntityImpl(Type.ENEMY, Optional.empty(), Optional.of(new HealthComponent(EnemyArchetype.get("basic").getHealth())),
+                Optional.empty(), Optional.of(new EnemyPhysicsComponent(new RectangleHB(10, 10, new Vector2D(x, 0)), 0)),
+                x, 0, Optional.of(target)));
+        }
+        target.addEntity(new EntityImpl(Type.WEAPON, Optional.empty(), Optional.empty(), Optional.empty(),
+            Optional.of(new WeaponPhysicsComponent(new RectangleHB(30, 30, new Vector2D(0, 0)))), 0, 0, Optional.of(target)));
+    }
+
+    private static List<String> state(final WorldImpl target) {
+        return target.getEntities().stream()
+            .map(e -> e.getType() + ":" + e.getHealthComp().map(h -> h.getCurrentHealth()).orElse(0))
+            .toList();
+    }
+
+    @Test
+    void testParallelUpdate() {
+        final var parallel = new WorldImpl();
+        crowd(world);
+        crowd(parallel);
+        parallel.setParallelUpdate(true);
+        for (int i = 0; i < TICKS; i++) {
+            world.updateWorld();
+            parallel.updateWorld();
+            //nothing of the crowd moves, so finding the collisions after the moves finds the same ones
+            assertEquals(state(world), state(parallel));
+            assertEquals(world.getScore(), parallel.getScore());
+            assertEquals(world.getPlantCount(), parallel.getPlantCount());
+        }
+        assertTrue(world.getScore() > 0);
+        assertTrue(world.getMoles().size() < MOLES);
+    }
+
+    @Test
+    void testSequentialOrder() {
+        final Optional<KeyInputs> keyInputs = Optional.of(new KeyInputs());
+        world.setInputs(keyInputs, Optional.of(new MouseInputs(keyInputs, world.getTimers())));
+        final var factory = new EntityFactoryImpl();
+        final Entity player = factory.createPlayer(PLAYER_X, PLAYER_Y, world);
+        final Entity weapon = factory.createWeapon(PLAYER_X, PLAYER_Y, world);
+        world.addEntity(player);
+        world.addEntity(weapon);
+        //a wall touching the right side of the player
+        world.addEntity(factory.createWall(new RectangleHB(WALL_WIDTH, Constant.PLAYER_HEIGHT,
+            new Vector2D(PLAYER_X + Constant.PLAYER_WIDTH / 2 + WALL_WIDTH / 2 - 1, PLAYER_Y)), world));
+        keyInputs.orElseThrow().setMovement(Directions.RIGHT);
+        world.updateWorld();
+        //the wall pushed the player back before the weapon moved, so the weapon follows the player where it is
+        assertEquals(PLAYER_X, player.getCurrentX());
+        assertEquals(world.getMouseInputs().orElseThrow().getWeaponRange() / 2,
+            weapon.getCurrentPosition().distance(player.getCurrentPosition()), DELTA);
+    }
+
+    @Test
+    void testColumnStorage() {
+        final var columns = new WorldImpl();
+        crowd(world);
+        columns.setColumnStorage(true);
+        crowd(columns);
+        assertTrue(columns.getEntitySnapshot().stream().allMatch(e -> e.getSlot() != EntityColumns.NO_SLOT));
+        for (int i = 0; i < TICKS; i++) {
+            world.updateWorld();
+            columns.updateWorld();
+            //the collisions found on the columns must be the same as the ones found through the objects
+            assertEquals(state(world), state(columns));
+            assertEquals(world.getScore(), columns.getScore());
+        }
+        final var mole = columns.getMoles().get(0);
+        mole.setX(1);
+        mole.storePreviousPosition();
+        columns.setColumnStorage(false);
+        //the entities take their state back
+        assertEquals(EntityColumns.NO_SLOT, mole.getSlot());
+        assertEquals(1, mole.getPreviousX());
+    }
+
+    /**
+     * Allocated bytes per tick of a world of plants far from each other, the renderer
+     * and each entity also reading the entities once per tick.
+     * @param plants the number of plants in the world
+     * @return the average bytes allocated by a tick
+     */
+    private static long bytesPerTick(final int plants) {
+        final var target = new WorldImpl();
+        final var factory = new EntityFactoryImpl();
+        for (int i = 0; i < plants; i++) {
+            target.addEntity(factory.createLifePlants(i % 10 * 200, i / 10 * 200, target));
+        }
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        long bytes = 0;
+        //the first round warms up the JIT, the second is measured
+        for (int round = 0; round < 2; round++) {
+            final long start = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < BENCH_TICKS; i++) {
+                target.updateWorld();
+                for (int j = 0; j <= plants; j++) {
+                    assertEquals(plants, target.getEntitySnapshot().size());
+                }
+            }
+            bytes = (threads.getThreadAllocatedBytes(thread) - start) / BENCH_TICKS;
+        }
+        return bytes;
+    }
+
+    @Test
+    void testAllocationScaling() {
+        final long small = bytesPerTick(PLANTS);
+        final long large = bytesPerTick(PLANTS * 4);
+        //copying the entities for every reader would allocate 16 times as much with 4 times the entities
+        assertTrue(large <= small * 4 + ALLOCATION_SLACK, "bytes per tick: " + small + " -> " + large);
+    }
+
+    @Test
+    void testEntitySnapshot() {
+        final var plant = new EntityFactoryImpl().createLifePlants(0, 0, world);
+        world.addEntity(plant);
+        final var snapshot = world.getEntitySnapshot();
+        //the snapshot is taken again only if the entities change
+        assertTrue(snapshot == world.getEntitySnapshot());
+        world.remove(plant);
+        assertEquals(List.of(plant), snapshot);
+        assertTrue(world.getEntitySnapshot().isEmpty());
+    }
+
+    @Test
+    void testTypeIndex() {
+        final var factory = new EntityFactoryImpl();
+        final var moles = world.getMoles();
+        final var plants = world.getLifePlants();
+        assertThrows(NoSuchElementException.class, world::getPlayer);
+        final var player = new EntityImpl(Type.PLAYER, Optional.empty(), Optional.empty(), Optional.empty(),
+            Optional.of(new EnemyPhysicsComponent(new RectangleHB(10, 10, new Vector2D(0, 0)), 0)), 0, 0, Optional.of(world));
+        world.addEntity(player);
+        world.addEntity(factory.createEnemy(EnemyArchetype.get("basic"), new Vector2D(0, 0), world));
+        world.addEntity(factory.createLifePlants(0, 0, world));
+        world.addFirstEntity(factory.createLifePlants(1, 1, world));
+        //the lists follow the world without being asked again
+        assertSame(player, world.getPlayer());
+        assertEquals(1, moles.size());
+        assertEquals(2, plants.size());
+        assertEquals(world.getEntities().getFirst(), plants.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> moles.remove(0));
+        world.remove(player);
+        world.remove(moles.get(0));
+        assertTrue(moles.isEmpty());
+        assertThrows(NoSuchElementException.class, world::getPlayer);
+    }
+
+    @Test
+    void testEnemyPool() {
+        final var factory = new EntityFactoryImpl();
+        final var pool = factory.getEnemyPool(EnemyArchetype.get("basic"));
+        final Entity mole = factory.createEnemy(EnemyArchetype.get("basic"), new Vector2D(0, 0), world);
+        world.addEntity(mole);
+        mole.getHealthComp().orElseThrow().setHealth(-EnemyArchetype.get("basic").getHealth());
+        assertTrue(mole.getHealthComp().orElseThrow().isDead());
+        world.remove(mole);
+        assertEquals(0, pool.getLive());
+        assertEquals(1, pool.getIdle());
+        //the dead mole comes back whole in the new position
+        final Entity reused = factory.createEnemy(EnemyArchetype.get("basic"), new Vector2D(100, 50), world);
+        assertSame(mole, reused);
+        assertEquals(100, reused.getCurrentX());
+        assertEquals(50, reused.getCurrentY());
+        assertFalse(reused.getHealthComp().orElseThrow().isDead());
+        assertEquals(0.5, pool.getHitRate());
+        assertEquals(1, pool.getLive());
+        assertEquals(0, pool.getIdle());
+        world.addEntity(reused);
+        assertEquals(1, world.getMoles().size());
+    }
+
+    @Test
+    void testPlantReservations() {
+        final var factory = new EntityFactoryImpl();
+        final var reservations = world.getPlantReservations();
+        final var random = new SplittableRandom(1);
+        assertTrue(reservations.claimFree(random).isEmpty());
+        for (int i = 0; i < Constant.NUM_PLANTS; i++) {
+            world.addEntity(factory.createLifePlants(i * 200, 0, world));
+        }
+        assertEquals(Constant.NUM_PLANTS, reservations.getFree());
+        //every plant is claimed once
+        final Set<Entity> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < Constant.NUM_PLANTS; i++) {
+            claimed.add(reservations.claimFree(random).orElseThrow());
+        }
+        assertEquals(Constant.NUM_PLANTS, claimed.size());
+        assertTrue(reservations.claimFree(random).isEmpty());
+        assertTrue(reservations.pickAny(random).isPresent());
+        //a removed plant leaves the registry, a released one can be claimed again
+        final Entity eaten = world.getLifePlants().get(0);
+        final Entity left = world.getLifePlants().get(1);
+        world.remove(eaten);
+        assertFalse(reservations.isClaimed(eaten));
+        assertEquals(Constant.NUM_PLANTS - 1, reservations.size());
+        reservations.release(left);
+        assertSame(left, reservations.claimFree(random).orElseThrow());
+        //the new plant takes the free slot, not claimed
+        final Entity planted = factory.createLifePlants(0, 200, world);
+        world.addEntity(planted);
+        assertFalse(reservations.isClaimed(planted));
+        assertTrue(reservations.claim(planted));
+        assertFalse(reservations.claim(planted));
+    }
+
+    @Test
+    void testEvents() {
+        final var factory = new EntityFactoryImpl();
+        final var events = world.getEvents();
+        final List<Entity> spawned = new ArrayList<>();
+        final List<Integer> damages = new ArrayList<>();
+        final List<Integer> plantsLeft = new ArrayList<>();
+        final List<Integer> scores = new ArrayList<>();
+        events.subscribe(EventBus.Event.ENTITY_SPAWNED, (entity, health) -> spawned.add(entity));
+        events.subscribe(EventBus.Event.DAMAGE_APPLIED, (entity, damage) -> damages.add(damage));
+        events.subscribe(EventBus.Event.PLANT_DESTROYED, (plant, left) -> plantsLeft.add(left));
+        events.subscribe(EventBus.Event.SCORE_CHANGED, (none, score) -> scores.add(score));
+        for (int i = 0; i < MOLES; i++) {
+            world.addEntity(factory.createLifePlants(i * 200, 0, world));
+        }
+        final Entity plant = world.getLifePlants().get(0);
+        plant.getHealthComp().orElseThrow().setHealth(-10);
+        world.incScore(Constant.ENEMY_SCORE);
+        //the events wait for the end of the tick
+        assertTrue(spawned.isEmpty());
+        assertEquals(MOLES, events.getPending(EventBus.Event.ENTITY_SPAWNED));
+        world.updateWorld();
+        assertEquals(world.getLifePlants(), spawned);
+        assertEquals(List.of(10), damages);
+        assertEquals(List.of(Constant.ENEMY_SCORE), scores);
+        world.remove(plant);
+        world.updateWorld();
+        assertEquals(List.of(MOLES - 1), plantsLeft);
+        assertEquals(0, events.getPending(EventBus.Event.PLANT_DESTROYED));
+    }
 }
@@ -0,0 +1,45 @@
+package it.unibo.smol.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * test for the triple buffer of the frames.
+ */
+class FrameBufferTest {
+
+    private final FrameBuffer buffer = new FrameBuffer();
+
+    private void publish(final int score) {
+        final Frame frame = buffer.getBack();
+        frame.clear(score, 1);
+        frame.add("sprite", 0, 0, 2, 4, 1, 1);
+        buffer.publish();
+    }
+
+    /**
+     * Tests that the reader always gets the latest published frame and keeps it until it takes another one.
+     */
+    @Test
+    void readerGetsLatestFrame() {
+        publish(1);
+        publish(2);
+        final Frame frame = buffer.take();
+        assertEquals(2, frame.getScore());
+        assertEquals(1, frame.size());
+        assertEquals(1, frame.getX(0, 0.5));
+        assertEquals(2, frame.getY(0, 0.5));
+        //the writer never gets the frame the reader is drawing
+        assertNotSame(frame, buffer.getBack());
+        publish(3);
+        assertNotSame(frame, buffer.getBack());
+        assertEquals(2, frame.getScore());
+        //nothing new was published: the same frame is drawn again
+        final Frame latest = buffer.take();
+        assertEquals(3, latest.getScore());
+        assertSame(latest, buffer.take());
+    }
+}